@@ -0,0 +1,68 @@
+package com.example.sixnumber.global.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 빈도 가중 번호 생성 비교, 한 번에 batch 장을 만드는 시간
+// before: 번호를 균등하게 고른 뒤 가중치 / 최대 가중치 확률로 받아들이는 rejection sampling
+// after: AliasTable 로 난수 두 개에 한 번호씩 뽑음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AliasTableBenchmark {
+
+	@Param({"1000", "100000"})
+	private int batch;
+
+	private final SplittableRandom random = new SplittableRandom(7);
+	private long[] weights;
+	private long maxWeight;
+	private AliasTable table;
+
+	@Setup
+	public void setup() {
+		// 실제 출현 횟수처럼 몇몇 번호만 크게 치우친 분포
+		weights = new long[NumberMask.MAX_NUMBER];
+		for (int i = 0; i < weights.length; i++) {
+			weights[i] = 1 + (i % 9 == 0 ? 400 : random.nextInt(20));
+			maxWeight = Math.max(maxWeight, weights[i]);
+		}
+		table = new AliasTable(weights);
+	}
+
+	@Benchmark
+	public void before(Blackhole bh) {
+		for (int i = 0; i < batch; i++) {
+			long mask = 0;
+			while (Long.bitCount(mask) < 6) {
+				int number;
+				do {
+					number = random.nextInt(weights.length);
+				} while (random.nextLong(maxWeight) >= weights[number]);
+				mask |= 1L << (number + 1);
+			}
+			bh.consume(mask);
+		}
+	}
+
+	@Benchmark
+	public void after(Blackhole bh) {
+		for (int i = 0; i < batch; i++) {
+			long mask = 0;
+			while (Long.bitCount(mask) < 6) {
+				mask |= 1L << (table.sample(random) + 1);
+			}
+			bh.consume(mask);
+		}
+	}
+}
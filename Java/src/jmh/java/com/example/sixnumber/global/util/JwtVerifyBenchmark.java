@@ -0,0 +1,78 @@
+package com.example.sixnumber.global.util;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.sixnumber.user.dto.SignupRequest;
+import com.example.sixnumber.user.entity.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+// 인증 필터의 토큰 처리 구간 비교
+// before: 요청마다 파서를 새로 만들고 validateToken, getClaims 로 두번 파싱하던 방식
+// after: 미리 만든 파서로 verify 한번에 검증과 claims 추출
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerifyBenchmark {
+
+	private final JwtProvider jwtProvider = new JwtProvider();
+	private final Key legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+	private String token;
+	private String legacyToken;
+
+	@Setup
+	public void setup() {
+		User user = new User(new SignupRequest("bench@email.com", "password1!", "bench"), "ePassword");
+		user.setId(7L);
+		token = jwtProvider.accessToken(user);
+
+		HashMap<String, Object> headers = new HashMap<>();
+		headers.put("typ", "JWT");
+		headers.put("alg", "HS256");
+		legacyToken = Jwts.builder()
+			.setHeader(headers)
+			.setSubject(user.getEmail())
+			.claim("id", user.getId())
+			.claim(JwtProvider.ROLE_CLAIM, user.getRole().name())
+			.claim(JwtProvider.VERSION_CLAIM, user.getTokenVersion())
+			.setIssuedAt(new Date())
+			.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
+			.signWith(legacyKey)
+			.compact();
+	}
+
+	@Benchmark
+	public void before(Blackhole bh) {
+		Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken);
+		Claims claims = Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken).getBody();
+		consume(claims, bh);
+	}
+
+	@Benchmark
+	public void after(Blackhole bh) {
+		JwtResult result = jwtProvider.verify(token);
+		consume(result.getClaims(), bh);
+	}
+
+	private void consume(Claims claims, Blackhole bh) {
+		bh.consume(claims.get("id", Long.class));
+		bh.consume(claims.getSubject());
+		bh.consume(claims.get(JwtProvider.ROLE_CLAIM, String.class));
+		bh.consume(claims.get(JwtProvider.VERSION_CLAIM, Integer.class));
+	}
+}
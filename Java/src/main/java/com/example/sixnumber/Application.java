@@ -30,7 +30,6 @@ public class Application {
 			User admin = new User(signupRequest, password);
 			admin.setAdmin();
 			admin.setCash("+", 999998999);
-			admin.setStatement("테스트");
 			userRepository.save(admin);
 		};
 	}
@@ -0,0 +1,22 @@
+package com.example.sixnumber.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.example.sixnumber.global.ratelimit.LocalRateLimiter;
+import com.example.sixnumber.global.ratelimit.RateLimitProperties;
+import com.example.sixnumber.global.ratelimit.RateLimiter;
+import com.example.sixnumber.global.ratelimit.RedisRateLimiter;
+
+@Configuration
+public class RateLimitConfig {
+
+	@Bean
+	public RateLimiter rateLimiter(RateLimitProperties properties, RedisTemplate<String, String> redisTemplate) {
+		if (properties.getMode().equalsIgnoreCase("redis")) {
+			return new RedisRateLimiter(redisTemplate);
+		}
+		return new LocalRateLimiter();
+	}
+}
@@ -6,8 +6,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.sixnumber.global.scurity.SessionCache;
+import com.example.sixnumber.global.util.CombinationPopularity;
+import com.example.sixnumber.global.util.DecayedFrequency;
+import com.example.sixnumber.global.util.SignupFilter;
+import com.example.sixnumber.global.util.WinNumberCache;
+
 @Configuration
 public class RedisConfig {
 
@@ -28,6 +36,21 @@ public class RedisConfig {
 		redisTemplate.setConnectionFactory(redisConnectionFactory());
 		redisTemplate.setKeySerializer(new StringRedisSerializer());
 		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 		return redisTemplate;
 	}
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(SessionCache sessionCache, SignupFilter signupFilter,
+		WinNumberCache winNumberCache, CombinationPopularity combinationPopularity, DecayedFrequency decayedFrequency) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(sessionCache, new ChannelTopic(SessionCache.CHANNEL));
+		container.addMessageListener(signupFilter, new ChannelTopic(SignupFilter.CHANNEL));
+		container.addMessageListener(winNumberCache, new ChannelTopic(WinNumberCache.CHANNEL));
+		container.addMessageListener(combinationPopularity, new ChannelTopic(CombinationPopularity.CHANNEL));
+		container.addMessageListener(decayedFrequency, new ChannelTopic(DecayedFrequency.CHANNEL));
+		return container;
+	}
 }
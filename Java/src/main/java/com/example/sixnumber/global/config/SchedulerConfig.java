@@ -0,0 +1,35 @@
+package com.example.sixnumber.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 기본 스케줄러는 스레드가 하나라서 통계 생성이 길어지면 결제, 정지 작업까지 밀림
+@Slf4j
+@Configuration
+public class SchedulerConfig implements SchedulingConfigurer {
+
+	@Value("${scheduler.pool-size:4}")
+	private int poolSize;
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("scheduler-");
+		scheduler.setErrorHandler(e -> log.error("스케줄 작업 오류", e));
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+
+	@Override
+	public void configureTasks(ScheduledTaskRegistrar registrar) {
+		registrar.setTaskScheduler(taskScheduler());
+	}
+}
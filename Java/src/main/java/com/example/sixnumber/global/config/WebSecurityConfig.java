@@ -13,9 +13,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.example.sixnumber.global.ratelimit.RateLimitFilter;
+import com.example.sixnumber.global.ratelimit.RateLimitProperties;
+import com.example.sixnumber.global.ratelimit.RateLimiter;
 import com.example.sixnumber.global.scurity.JwtSecurityFilter;
+import com.example.sixnumber.global.scurity.SessionCache;
 import com.example.sixnumber.global.scurity.UserDetailsServiceImpl;
 import com.example.sixnumber.global.util.JwtProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,6 +32,10 @@ public class WebSecurityConfig {
 	private final UserDetailsServiceImpl userDetailsService;
 	private final JwtProvider jwtProvider;
 	private final RedisTemplate<String, String> redisTemplate;
+	private final SessionCache sessionCache;
+	private final RateLimitProperties rateLimitProperties;
+	private final RateLimiter rateLimiter;
+	private final ObjectMapper objectMapper;
 
 	@Bean
 	public PasswordEncoder passwordEncoder() {
@@ -51,7 +60,8 @@ public class WebSecurityConfig {
 			.antMatchers("/api/lotto/**").hasAnyRole("ADMIN", "PAID")
 			.antMatchers("/**").permitAll()
 			.and()
-			.addFilterBefore(new JwtSecurityFilter(userDetailsService, jwtProvider, redisTemplate), UsernamePasswordAuthenticationFilter.class);
+			.addFilterBefore(new JwtSecurityFilter(userDetailsService, jwtProvider, redisTemplate, sessionCache), UsernamePasswordAuthenticationFilter.class)
+			.addFilterAfter(new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper), JwtSecurityFilter.class);
 
 		return http.build();
 	}
@@ -0,0 +1,21 @@
+package com.example.sixnumber.global.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class JobStatsResponse {
+	private final String name;
+	private final long runs;
+	private final long failures;
+	private final long rows;
+	private final long lastRows;
+	private final long averageMillis;
+	private final long maxMillis;
+	private final Map<String, Long> histogram;
+	// 마지막 성공 시각 (epoch ms), 한번도 성공하지 않았으면 null
+	private final Long lastSuccess;
+}
@@ -0,0 +1,19 @@
+package com.example.sixnumber.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PasswordHasherStatsResponse {
+	private final long hashes;
+	// 풀과 대기열이 가득 차서 바로 거절된 요청 수
+	private final long rejections;
+	// 대기 시간 초과로 포기한 요청 수
+	private final long timeouts;
+	private final long averageMillis;
+	private final long maxMillis;
+	private final long averageQueueWaitMillis;
+	private final int active;
+	private final int queued;
+}
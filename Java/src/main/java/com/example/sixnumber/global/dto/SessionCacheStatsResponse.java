@@ -0,0 +1,14 @@
+package com.example.sixnumber.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SessionCacheStatsResponse {
+	private long hits;
+	private long misses;
+	private double hitRatio;
+	private int size;
+	private long invalidations;
+}
@@ -0,0 +1,15 @@
+package com.example.sixnumber.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트랜잭션 하나에서 Manager.findUser 를 몇 번 부르고 그 중 몇 번 실제로 조회했는지
+@Getter
+@AllArgsConstructor
+public class UserLookupStatsResponse {
+	private long transactions;
+	private long lookups;
+	private long queries;
+	private double averageLookups;
+	private long maxLookups;
+}
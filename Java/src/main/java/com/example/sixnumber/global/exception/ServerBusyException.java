@@ -0,0 +1,11 @@
+package com.example.sixnumber.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServerBusyException extends BaseException{
+	private static final String MSG = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+
+	public ServerBusyException() {
+		super(HttpStatus.SERVICE_UNAVAILABLE, MSG);
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.sixnumber.global.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.sixnumber.global.ratelimit.RateLimitProperties.Route;
+
+// GCRA 방식의 token bucket, 버킷마다 다음 토큰이 채워질 시각(TAT) 하나만 저장하고 CAS 로 갱신해서 lock 이 없음
+public class LocalRateLimiter implements RateLimiter {
+
+	// 이 수를 넘으면 이미 가득 찬 버킷을 지워서 메모리가 계속 늘지 않게 함
+	private static final int CLEANUP_THRESHOLD = 100_000;
+
+	private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	@Override
+	public long tryAcquire(String key, Route route) {
+		long interval = route.getIntervalMicros();
+		long burst = interval * route.getCapacity();
+		long now = nowMicros();
+
+		AtomicLong tat = buckets.get(key);
+		if (tat == null) {
+			if (buckets.size() >= CLEANUP_THRESHOLD) cleanup(now);
+			tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+		}
+
+		while (true) {
+			long current = tat.get();
+			long next = Math.max(current, now) + interval;
+			long allowAt = next - burst;
+			if (now < allowAt) return Math.max(1, TimeUnit.MICROSECONDS.toMillis(allowAt - now));
+			if (tat.compareAndSet(current, next)) return 0;
+		}
+	}
+
+	int size() {
+		return buckets.size();
+	}
+
+	// TAT 가 지난 버킷은 가득 찬 상태라 새로 만든 버킷과 같으므로 지워도 됨
+	private void cleanup(long now) {
+		buckets.values().removeIf(tat -> tat.get() <= now);
+	}
+
+	private long nowMicros() {
+		return TimeUnit.NANOSECONDS.toMicros(System.nanoTime());
+	}
+}
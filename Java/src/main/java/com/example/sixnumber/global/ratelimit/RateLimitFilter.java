@@ -0,0 +1,84 @@
+package com.example.sixnumber.global.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.sixnumber.global.dto.ApiResponse;
+import com.example.sixnumber.global.ratelimit.RateLimitProperties.KeyType;
+import com.example.sixnumber.global.ratelimit.RateLimitProperties.Route;
+import com.example.sixnumber.global.scurity.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// JwtSecurityFilter 다음에 실행되어 로그인한 유저는 id 로, 아니면 IP 로 요청 수를 제한함
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final Map<String, Route> routes = new HashMap<>();
+	private final RateLimiter rateLimiter;
+	private final ObjectMapper objectMapper;
+
+	public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+		for (Route route : properties.getRoutes()) {
+			routes.put(route.getMethod() + " " + route.getPath(), route);
+		}
+		this.rateLimiter = rateLimiter;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		String uri = request.getRequestURI();
+		// Spring MVC 는 끝의 / 를 무시하고 매칭하므로 제한도 같은 경로로 취급함
+		if (uri.length() > 1 && uri.endsWith("/")) uri = uri.substring(0, uri.length() - 1);
+
+		Route route = routes.get(request.getMethod() + " " + uri);
+		if (route == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		long retryAfterMillis = rateLimiter.tryAcquire(route.getName() + ":" + resolveKey(request, route), route);
+		if (retryAfterMillis > 0) {
+			reject(response, retryAfterMillis);
+			return;
+		}
+
+		filterChain.doFilter(request, response);
+	}
+
+	private String resolveKey(HttpServletRequest request, Route route) {
+		if (route.getKey() == KeyType.USER) {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+				return "user:" + principal.getId();
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+		long retryAfterSeconds = (retryAfterMillis + 999) / 1000;
+		ApiResponse body = new ApiResponse(HttpStatus.TOO_MANY_REQUESTS.value(),
+			"요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요");
+
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		objectMapper.writeValue(response.getWriter(), body);
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.sixnumber.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+	// local: 서버마다 따로 제한, redis: 모든 서버가 같은 버킷을 사용
+	private String mode = "local";
+	// 0 이하의 값이 들어오면 요청 시점에 터지지 않도록 기동할 때 바로 실패시킴
+	@Valid
+	private List<Route> routes = new ArrayList<>();
+
+	public enum KeyType {
+		IP, USER
+	}
+
+	@Getter
+	@Setter
+	public static class Route {
+		private String name;
+		private String method = "POST";
+		@NotBlank
+		private String path;
+		// USER 는 로그인하지 않은 요청이면 IP 로 대신함
+		private KeyType key = KeyType.IP;
+		// 한번에 몰아서 보낼 수 있는 최대 요청 수
+		@Positive
+		private int capacity;
+		@Positive
+		private int refillPerMinute;
+
+		// 토큰 하나가 채워지는 간격 (μs)
+		public long getIntervalMicros() {
+			return 60_000_000L / refillPerMinute;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.example.sixnumber.global.ratelimit;
+
+import com.example.sixnumber.global.ratelimit.RateLimitProperties.Route;
+
+public interface RateLimiter {
+
+	// 허용되면 0, 거절되면 다시 요청할 수 있을 때까지 남은 시간(ms)을 반환함
+	// 허용되는 경우가 대부분이라 결과 객체를 만들지 않고 long 으로 돌려줌
+	long tryAcquire(String key, Route route);
+}
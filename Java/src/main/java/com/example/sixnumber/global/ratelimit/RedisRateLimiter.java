@@ -0,0 +1,38 @@
+package com.example.sixnumber.global.ratelimit;
+
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.example.sixnumber.global.ratelimit.RateLimitProperties.Route;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 여러 서버가 같은 버킷을 공유하도록 GCRA 계산을 Lua 스크립트로 Redis 에서 한번에 처리함
+@Slf4j
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+
+	private static final RedisScript<Long> RATE_LIMIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/rate_limit.lua"), Long.class);
+	private static final String RLK = "RL: ";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public long tryAcquire(String key, Route route) {
+		try {
+			Long retryAfter = redisTemplate.execute(RATE_LIMIT_SCRIPT, List.of(RLK + key),
+				String.valueOf(route.getIntervalMicros()), String.valueOf(route.getCapacity()));
+			return retryAfter == null ? 0 : retryAfter;
+		} catch (DataAccessException e) {
+			// Redis 장애로 모든 요청이 막히지 않도록 제한 없이 통과시킴
+			log.warn("rate limit 확인 실패, 요청을 허용합니다 key={}", key, e);
+			return 0;
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package com.example.sixnumber.global.scheduler;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -8,99 +7,129 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.SignupFilter;
 import com.example.sixnumber.lotto.entity.Lotto;
 import com.example.sixnumber.lotto.entity.SixNumber;
 import com.example.sixnumber.lotto.repository.LottoRepository;
 import com.example.sixnumber.lotto.repository.SixNumberRepository;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.repository.ChargingRepository;
+import com.example.sixnumber.user.repository.StatementRepository;
 import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.type.StatementType;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @Transactional
 public class GlobalScheduler {
 
+	// JobMisfireHandler 에서 놓친 실행을 계산할 때도 사용하기에 상수로 관리함
+	public static final String TOP_NUMBER_JOB = "topNumberForMonth";
+	public static final String TOP_NUMBER_CRON = "0 0 11 ? * MON-FRI";
+	public static final String PAYMENT_JOB = "paymentAndCancellation";
+	public static final String PAYMENT_CRON = "0 0 9 ? * MON-FRI";
+	public static final String WITHDRAW_JOB = "withdrawExpiration";
+	public static final String WITHDRAW_CRON = "0 0 7 ? * MON-FRI";
+	public static final String SUSPEND_JOB = "autoSetSuspended";
+	public static final String SUSPEND_CRON = "0 0 6,18 * * *";
+	public static final String CHARGING_SWEEP_JOB = "chargingSweep";
+	public static final String CHARGING_SWEEP_CRON = "0 0 * * * *";
+
 	private final UserRepository userRepository;
+	private final ChargingRepository chargingRepository;
+	private final StatementRepository statementRepository;
 	private final LottoRepository lottoRepository;
 	private final SixNumberRepository sixNumberRepository;
-	private final RedisTemplate<String, String> redisTemplate;
 	private final Manager manager;
+	private final SignupFilter signupFilter;
+	private final JobMonitor jobMonitor;
 
-	@Scheduled(cron = "0 0 11 ? * MON-FRI")
+	@Scheduled(cron = TOP_NUMBER_CRON)
 	public void findByTopNumberListForMonth() {
-		String[] ym = YearMonth.now().minusMonths(1).toString().split("-");
-		int year = Integer.parseInt(ym[0]);
-		int lastMonth = Integer.parseInt(ym[1]);
-		YearMonth yLastMonth = YearMonth.of(year, lastMonth);
-
-		System.out.println(lastMonth + "월 통계 조회");
-		Optional<Lotto> lotto = lottoRepository.findByTopNumbersForMonth(yLastMonth);
-
-		if (lotto.isEmpty()) {
-			generatesStatistics(year, lastMonth, yLastMonth);
-		}
+		jobMonitor.run(TOP_NUMBER_JOB, () -> {
+			String[] ym = YearMonth.now().minusMonths(1).toString().split("-");
+			int year = Integer.parseInt(ym[0]);
+			int lastMonth = Integer.parseInt(ym[1]);
+			YearMonth yLastMonth = YearMonth.of(year, lastMonth);
+
+			log.info(lastMonth + "월 통계 조회");
+			Optional<Lotto> lotto = lottoRepository.findByTopNumbersForMonth(yLastMonth);
+
+			if (lotto.isPresent()) return 0;
+			return generatesStatistics(year, lastMonth, yLastMonth);
+		});
 	}
 
 	// 월 말에 월정액 가입한 유저의 경우 몇일 지나고 다시 결제가 되는데 어떻게 처리할지 고민해야함 예: YearMonth -> LocalDate
-	@Scheduled(cron = "0 0 9 ? * MON-FRI")
+	@Scheduled(cron = PAYMENT_CRON)
 	public void paymentAndCancellation() {
-		System.out.println("자동 결제 및 해지");
-		String lastMonth = YearMonth.now().minusMonths(1).toString();
-
-		List<User> userList = userRepository.findByRole(UserRole.ROLE_PAID);
-		for (User user : userList) {
-			String paymentDate = user.getPaymentDate();
-
-			if (paymentDate.equals(lastMonth) && user.getCash() >= 5000 && !user.getPaymentDate().equals("월정액 해지")) {
-				user.setCash("-", 5000);
-				user.setPaymentDate(YearMonth.now().toString());
-				user.setStatement(LocalDate.now() + "," + YearMonth.now() + "월 정액 비용 5000원 차감");
-			} else if (paymentDate.equals("월정액 해지") || user.getCash() < 5000) {
-				user.setRole("USER");
-				user.setPaymentDate("");
-			} else {
-				throw new IllegalArgumentException("얘기치 않은 동작 및 오류");
+		jobMonitor.run(PAYMENT_JOB, () -> {
+			log.info("자동 결제 및 해지");
+			String lastMonth = YearMonth.now().minusMonths(1).toString();
+
+			List<User> userList = userRepository.findByRole(UserRole.ROLE_PAID);
+			for (User user : userList) {
+				String paymentDate = user.getPaymentDate();
+				boolean due = paymentDate.equals(lastMonth);
+
+				if (due && userRepository.debitCash(user.getId(), 5000) > 0) {
+					user.setPaymentDate(YearMonth.now().toString());
+					statementRepository.save(new Statement(user.getId(), StatementType.SUBSCRIPTION, -5000, YearMonth.now() + "월 정액 비용"));
+				} else if (due || paymentDate.equals("월정액 해지") || user.getCash() < 5000) {
+					user.setRole("USER");
+					user.setPaymentDate("");
+					manager.publishTokenVersion(user);
+				} else {
+					throw new IllegalArgumentException("얘기치 않은 동작 및 오류");
+				}
 			}
-		}
+			return userList.size();
+		});
 	}
 
-	@Scheduled(cron = "0 0 7 ? * MON-FRI")
+	@Scheduled(cron = WITHDRAW_CRON)
 	public void	withdrawExpiration() {
-		System.out.println("탈퇴한 유저 정보 보유기간 만료 확인");
-		List<User> withdrawList = userRepository.findByStatusAndWithdrawExpiration(Status.DORMANT);
-		if (!withdrawList.isEmpty()) {
-			userRepository.deleteAll(withdrawList);
-		}
+		jobMonitor.run(WITHDRAW_JOB, () -> {
+			log.info("탈퇴한 유저 정보 보유기간 만료 확인");
+			List<User> withdrawList = userRepository.findByStatusAndWithdrawExpiration(Status.DORMANT);
+			if (!withdrawList.isEmpty()) {
+				userRepository.deleteAll(withdrawList);
+				signupFilter.rebuildAll();
+			}
+			return withdrawList.size();
+		});
 	}
 
-	@Scheduled(cron = "0 0 6,18 * * *")
+	@Scheduled(cron = SUSPEND_CRON)
 	public void	autoSetSuspended() {
-		System.out.println("미처리 누적에 대한 정지 처리");
-		List<User> untreatedUsers = userRepository.findUserByUntreated(4);
-		if (!untreatedUsers.isEmpty()) {
-			for (User user : untreatedUsers) {
-				user.setStatus("SUSPENDED");
-				String Key = "RT: " + user.getId();
-				String refreshToken = redisTemplate.opsForValue().get(Key);
-				if (refreshToken != null) redisTemplate.delete(refreshToken);
-			}
-		}
+		jobMonitor.run(SUSPEND_JOB, () -> {
+			log.info("미처리 누적에 대한 정지 처리");
+			return manager.suspendUntreatedUsers(4);
+		});
+	}
+
+	// 12시간이 지나 TTL 로 사라진 충전 요청을 인덱스에서도 정리함
+	@Scheduled(cron = CHARGING_SWEEP_CRON)
+	public void sweepCharging() {
+		jobMonitor.run(CHARGING_SWEEP_JOB, chargingRepository::sweepExpired);
 	}
 
 	// 너무 많은 작업을 담당하기에 분리함
-	private void generatesStatistics(int year, int lastMonth, YearMonth findYm) {
+	private int generatesStatistics(int year, int lastMonth, YearMonth findYm) {
 		String statistics = "";
-		System.out.println(lastMonth+"월 통계 생성중");
+		log.info(lastMonth + "월 통계 생성중");
 		List<Integer> countList = new ArrayList<>();
 		for (int i = 0; i < 45; i++) {
 			countList.add(1);
@@ -130,5 +159,6 @@ public class GlobalScheduler {
 		String result = manager.reviseResult(sortedIndices, countList);
 		Lotto lotto = new Lotto(lastMonth + "월 통계", "Scheduler", findYm, countList, statistics, result);
 		lottoRepository.save(lotto);
+		return monthDated.size();
 	}
 }
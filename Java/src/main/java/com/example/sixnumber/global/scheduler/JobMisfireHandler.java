@@ -0,0 +1,62 @@
+package com.example.sixnumber.global.scheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 재시작 중에 실행 시각이 지나간 작업은 시작 시 한번만 실행함, 여러번 놓쳤어도 한번만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobMisfireHandler {
+
+	private final GlobalScheduler globalScheduler;
+	private final JobMonitor jobMonitor;
+	private final TaskScheduler taskScheduler;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void runMissedJobs() {
+		Map<String, String> crons = new LinkedHashMap<>();
+		crons.put(GlobalScheduler.TOP_NUMBER_JOB, GlobalScheduler.TOP_NUMBER_CRON);
+		crons.put(GlobalScheduler.PAYMENT_JOB, GlobalScheduler.PAYMENT_CRON);
+		crons.put(GlobalScheduler.WITHDRAW_JOB, GlobalScheduler.WITHDRAW_CRON);
+		crons.put(GlobalScheduler.SUSPEND_JOB, GlobalScheduler.SUSPEND_CRON);
+
+		Map<String, Runnable> jobs = Map.of(
+			GlobalScheduler.TOP_NUMBER_JOB, globalScheduler::findByTopNumberListForMonth,
+			GlobalScheduler.PAYMENT_JOB, globalScheduler::paymentAndCancellation,
+			GlobalScheduler.WITHDRAW_JOB, globalScheduler::withdrawExpiration,
+			GlobalScheduler.SUSPEND_JOB, globalScheduler::autoSetSuspended
+		);
+
+		LocalDateTime now = LocalDateTime.now();
+		crons.forEach((name, cron) -> {
+			if (isMissed(name, cron, now)) {
+				log.info(name + " 작업이 재시작 중에 누락되어 한번 실행함");
+				taskScheduler.schedule(jobs.get(name), Instant.now());
+			}
+		});
+	}
+
+	// 한번도 성공한 적이 없는 작업은 놓친 것으로 보지 않음
+	private boolean isMissed(String name, String cron, LocalDateTime now) {
+		Optional<Long> lastSuccess = jobMonitor.getLastSuccess(name);
+		if (lastSuccess.isEmpty()) return false;
+
+		LocalDateTime lastRun = LocalDateTime.ofInstant(Instant.ofEpochMilli(lastSuccess.get()), ZoneId.systemDefault());
+		LocalDateTime nextRun = CronExpression.parse(cron).next(lastRun);
+		return nextRun != null && nextRun.isBefore(now);
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.sixnumber.global.scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sixnumber.global.dto.JobStatsResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobMonitor {
+
+	// 재시작 후에도 놓친 실행을 판단할 수 있도록 마지막 성공 시각은 redis 에 남김
+	private static final String JOB = "JOB: ";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Map<String, JobStats> statsMap = new ConcurrentHashMap<>();
+
+	// job 은 처리한 row 수를 반환함, 실패하면 기록만 남기고 예외는 그대로 던짐
+	// 트랜잭션 안에서 실행되면 커밋된 뒤에 성공으로 기록함, 롤백되면 실패로 남겨 재시작 때 다시 실행되게 함
+	public void run(String name, IntSupplier job) {
+		JobStats stats = statsMap.computeIfAbsent(name, JobStats::new);
+		long start = System.nanoTime();
+		int rows;
+		try {
+			rows = job.getAsInt();
+		} catch (RuntimeException e) {
+			stats.failure(System.nanoTime() - start);
+			log.error(name + " 작업 실패", e);
+			throw e;
+		}
+		long elapsed = System.nanoTime() - start;
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			success(name, stats, elapsed, rows);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				success(name, stats, elapsed, rows);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) return;
+				stats.failure(elapsed);
+				log.error(name + " 작업 커밋 실패 (" + (status == STATUS_ROLLED_BACK ? "롤백" : "알 수 없음") + ")");
+			}
+		});
+	}
+
+	private void success(String name, JobStats stats, long elapsed, int rows) {
+		stats.success(elapsed, rows);
+		redisTemplate.opsForValue().set(JOB + name, String.valueOf(System.currentTimeMillis()));
+	}
+
+	public Optional<Long> getLastSuccess(String name) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(JOB + name)).map(Long::parseLong);
+	}
+
+	public List<JobStatsResponse> getStats() {
+		return statsMap.values().stream().map(JobStats::toResponse).toList();
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.sixnumber.global.scheduler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.sixnumber.global.dto.JobStatsResponse;
+
+// 작업 하나의 실행 기록, 여러 스레드에서 동시에 갱신되기에 락 없이 누적함
+class JobStats {
+
+	// 실행 시간 히스토그램의 구간 상한 (ms), 마지막 구간은 그 이상 전부
+	private static final long[] BUCKET_BOUNDS = {10, 100, 1000, 10_000, 60_000, 600_000};
+
+	private final String name;
+	private final LongAdder runs = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final AtomicLong lastRows = new AtomicLong();
+	private final AtomicLong lastSuccess = new AtomicLong();
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+
+	JobStats(String name) {
+		this.name = name;
+	}
+
+	void success(long elapsedNanos, int processedRows) {
+		record(elapsedNanos);
+		rows.add(processedRows);
+		lastRows.set(processedRows);
+		lastSuccess.set(System.currentTimeMillis());
+	}
+
+	void failure(long elapsedNanos) {
+		record(elapsedNanos);
+		failures.increment();
+	}
+
+	JobStatsResponse toResponse() {
+		long count = runs.sum();
+		long averageMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count);
+
+		Map<String, Long> histogram = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+			histogram.put("<=" + BUCKET_BOUNDS[i] + "ms", buckets.get(i));
+		}
+		histogram.put(">" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1] + "ms", buckets.get(BUCKET_BOUNDS.length));
+
+		return new JobStatsResponse(name, count, failures.sum(), rows.sum(), lastRows.get(), averageMillis,
+			TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), histogram, lastSuccess.get() == 0 ? null : lastSuccess.get());
+	}
+
+	private void record(long elapsedNanos) {
+		runs.increment();
+		totalNanos.add(elapsedNanos);
+		maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+
+		long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+		int index = 0;
+		while (index < BUCKET_BOUNDS.length && millis > BUCKET_BOUNDS[index]) index++;
+		buckets.incrementAndGet(index);
+	}
+}
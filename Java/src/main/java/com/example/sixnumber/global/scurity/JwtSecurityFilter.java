@@ -1,7 +1,6 @@
 package com.example.sixnumber.global.scurity;
 
 import java.io.IOException;
-import java.util.Date;
 import java.util.Objects;
 
 import javax.servlet.FilterChain;
@@ -15,65 +14,108 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.example.sixnumber.global.util.JwtProvider;
+import com.example.sixnumber.global.util.JwtResult;
+import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.type.Status;
+import com.example.sixnumber.user.type.UserRole;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class JwtSecurityFilter extends OncePerRequestFilter {
 
+	private static final String RTK = "RT: ";
+	private static final String TVK = "TV: ";
+
 	private final UserDetailsServiceImpl userDetailsService;
 	private final JwtProvider jwtProvider;
 	private final RedisTemplate<String, String> redisTemplate;
+	private final SessionCache sessionCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
 		String token = jwtProvider.resolveToken(request);
 
-		try {
-			if (token != null) {
-				if (!jwtProvider.validateToken(token)) {
-					throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 입니다");
-				}
+		if (token != null) {
+			JwtResult result = jwtProvider.verify(token);
+			switch (result.getStatus()) {
+				case VALID -> authenticate(result.getClaims(), response);
+				case EXPIRED -> refresh(result.getClaims().get("id", Long.class), response);
+				default -> throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 입니다");
+			}
+		}
 
-				Long id = jwtProvider.getClaims(token).get("id", Long.class);
-				if (redisTemplate.opsForValue().get("RT: " + id) == null) {
-					jwtProvider.setExpire(token);
-					throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "존재하지 않는 토큰 입니다");
-				}
+		filterChain.doFilter(request, response);
+	}
 
-				createAuthentication(id);
-			}
-		} catch (ExpiredJwtException e) {
-			Long id = e.getClaims().get("id", Long.class);
-			String refreshTokenInRedis = redisTemplate.opsForValue().get("RT: " + id);
+	private void authenticate(Claims claims, HttpServletResponse response) {
+		Long id = claims.get("id", Long.class);
+		// refresh token 존재 여부와 현재 tokenVersion 은 로컬 캐시에서 먼저 확인
+		SessionCache.Session session = sessionCache.find(id);
+		if (session == null) {
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "존재하지 않는 토큰 입니다");
+		}
 
-			if (Objects.isNull(refreshTokenInRedis) || jwtProvider.isTokenExpired(refreshTokenInRedis)) {
-				redisTemplate.delete("RT: " + id);
-				throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 입니다");
-			}
+		UserPrincipal principal = toPrincipal(claims);
+		String currentVersion = session.getVersion();
+		if (principal == null
+			|| (currentVersion != null && !currentVersion.equals(String.valueOf(principal.getTokenVersion())))) {
+			// 권한, 상태가 바뀐 뒤 발급된 토큰이 아니면 DB 의 최신 정보로 다시 발급
+			reissue(id, response);
+		} else {
+			createAuthentication(principal);
+		}
+	}
 
-			String email = e.getClaims().getSubject();
-			String newAccessToken = jwtProvider.accessToken(email, id);
+	private void refresh(Long id, HttpServletResponse response) {
+		String refreshTokenInRedis = redisTemplate.opsForValue().get(RTK + id);
 
-			response.setHeader(JwtProvider.AUTHORIZATION_HEADER, "Bearer " + newAccessToken);
-			createAuthentication(id);
+		if (Objects.isNull(refreshTokenInRedis) || !jwtProvider.verify(refreshTokenInRedis).isValid()) {
+			redisTemplate.delete(RTK + id);
+			sessionCache.evict(id);
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 입니다");
 		}
 
-		filterChain.doFilter(request, response);
+		reissue(id, response);
+	}
+
+	// access token 만료 또는 버전 불일치일 때만 DB 를 조회함
+	private void reissue(Long userId, HttpServletResponse response) {
+		User user = userDetailsService.loadUserById(userId);
+		if (!user.getStatus().equals(Status.ACTIVE)) {
+			redisTemplate.delete(RTK + userId);
+			sessionCache.evict(userId);
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 입니다");
+		}
+
+		String newAccessToken = jwtProvider.accessToken(user);
+		// 커밋된 버전으로 맞춰 두어 버전 기록이 누락되었을 때 매 요청 재발급되는 것을 막음
+		redisTemplate.opsForValue().set(TVK + userId, String.valueOf(user.getTokenVersion()));
+		sessionCache.evict(userId);
+
+		response.setHeader(JwtProvider.AUTHORIZATION_HEADER, "Bearer " + newAccessToken);
+		createAuthentication(UserPrincipal.from(user));
+	}
+
+	// role, ver claim 이 없는 이전 형식의 토큰이면 null 을 반환해 재발급하게 함
+	private UserPrincipal toPrincipal(Claims claims) {
+		String role = claims.get(JwtProvider.ROLE_CLAIM, String.class);
+		Integer version = claims.get(JwtProvider.VERSION_CLAIM, Integer.class);
+		if (role == null || version == null) return null;
+
+		return new UserPrincipal(claims.get("id", Long.class), claims.getSubject(), UserRole.valueOf(role), version);
 	}
 
-	private void createAuthentication(Long userId) {
-		UserDetails user = userDetailsService.loadUserById(userId);
+	private void createAuthentication(UserPrincipal principal) {
 		SecurityContext context = SecurityContextHolder.createEmptyContext();
-		Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+		Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null,
+			principal.getAuthorities());
 		context.setAuthentication(authentication);
 		SecurityContextHolder.setContext(context);
 	}
@@ -0,0 +1,156 @@
+package com.example.sixnumber.global.scurity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.sixnumber.global.dto.SessionCacheStatsResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 요청마다 Redis 에서 RT, TV 를 읽지 않도록 세션 정보를 짧게 로컬에 캐싱함
+// 세션이 끊기거나 tokenVersion 이 바뀌면 pub/sub 으로 모든 서버의 캐시를 지움
+@Component
+public class SessionCache implements MessageListener {
+
+	public static final String CHANNEL = "session-invalidate";
+	private static final String ALL = "*";
+	// 한 메시지에 담을 최대 id 수, 넘으면 전체 삭제로 대신함
+	private static final int MAX_IDS_PER_MESSAGE = 1000;
+	private static final String RTK = "RT: ";
+	private static final String TVK = "TV: ";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long ttlMillis;
+	private final int maxSize;
+	private final LongSupplier clock;
+	private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+	// 무효화가 일어날 때마다 증가, 조회 도중 무효화되었으면 그 결과는 캐싱하지 않음
+	private final AtomicLong generation = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+	private volatile long lastPurge;
+
+	@Autowired
+	public SessionCache(RedisTemplate<String, String> redisTemplate,
+		@Value("${session-cache.ttl-millis:5000}") long ttlMillis,
+		@Value("${session-cache.max-size:10000}") int maxSize) {
+		this(redisTemplate, ttlMillis, maxSize, System::currentTimeMillis);
+	}
+
+	public SessionCache(RedisTemplate<String, String> redisTemplate, long ttlMillis, int maxSize, LongSupplier clock) {
+		this.redisTemplate = redisTemplate;
+		this.ttlMillis = ttlMillis;
+		this.maxSize = maxSize;
+		this.clock = clock;
+	}
+
+	// 세션이 없으면 null, 있으면 현재 tokenVersion 을 담은 Session 을 반환함 (TV 가 없으면 version 은 null)
+	public Session find(Long userId) {
+		long now = clock.getAsLong();
+		Entry entry = entries.get(userId);
+		if (entry != null) {
+			if (entry.expiresAt > now) {
+				hits.increment();
+				return entry.session;
+			}
+			entries.remove(userId, entry);
+		}
+		misses.increment();
+
+		long stamp = generation.get();
+		List<String> values = redisTemplate.opsForValue().multiGet(List.of(RTK + userId, TVK + userId));
+		// 세션이 없는 경우는 캐싱하지 않음, 로그인 직후 요청이 거부되지 않도록 하기 위함
+		if (values == null || values.get(0) == null) return null;
+
+		Session session = new Session(values.get(1));
+		put(userId, new Entry(session, now + ttlMillis), stamp, now);
+		return session;
+	}
+
+	public void evict(Long userId) {
+		evictLocal(List.of(userId));
+		redisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+	}
+
+	public void evictAll(List<Long> userIds) {
+		if (userIds.isEmpty()) return;
+
+		evictLocal(userIds);
+		String message = userIds.size() > MAX_IDS_PER_MESSAGE
+			? ALL : userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+		redisTemplate.convertAndSend(CHANNEL, message);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (body.equals(ALL)) {
+			generation.incrementAndGet();
+			invalidations.increment();
+			entries.clear();
+			return;
+		}
+
+		List<Long> userIds = List.of(body.split(",")).stream().map(Long::valueOf).toList();
+		evictLocal(userIds);
+	}
+
+	public SessionCacheStatsResponse getStats() {
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		long total = hitCount + missCount;
+		double hitRatio = total == 0 ? 0 : (double) hitCount / total;
+		return new SessionCacheStatsResponse(hitCount, missCount, hitRatio, entries.size(), invalidations.sum());
+	}
+
+	private void evictLocal(List<Long> userIds) {
+		generation.incrementAndGet();
+		invalidations.increment();
+		userIds.forEach(entries::remove);
+	}
+
+	private void put(Long userId, Entry entry, long stamp, long now) {
+		if (entries.size() >= maxSize) {
+			purgeExpired(now);
+			// 살아있는 항목으로 가득 찼으면 캐싱을 건너뛰고 Redis 조회로 처리함
+			if (entries.size() >= maxSize) return;
+		}
+
+		entries.put(userId, entry);
+		// put 하는 사이에 무효화가 일어났다면 방금 넣은 값도 오래된 값일 수 있음
+		if (generation.get() != stamp) entries.remove(userId, entry);
+	}
+
+	// 가득 찼을 때 매 조회마다 전체를 훑지 않도록 TTL 주기로만 정리함
+	private void purgeExpired(long now) {
+		if (now - lastPurge < ttlMillis) return;
+		lastPurge = now;
+		entries.values().removeIf(entry -> entry.expiresAt <= now);
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Session {
+		private final String version;
+	}
+
+	@AllArgsConstructor
+	private static class Entry {
+		private final Session session;
+		private final long expiresAt;
+	}
+}
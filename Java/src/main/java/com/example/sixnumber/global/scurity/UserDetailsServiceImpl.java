@@ -5,6 +5,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 			.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
 	}
 
-	public UserDetails loadUserById(Long userId) throws UsernameNotFoundException {
+	public User loadUserById(Long userId) throws UsernameNotFoundException {
 		return userRepository.findById(userId)
 			.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
 	}
@@ -0,0 +1,69 @@
+package com.example.sixnumber.global.scurity;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.type.UserRole;
+
+import lombok.Getter;
+
+// 토큰 claim 만으로 만드는 인증 정보, 요청마다 User 엔티티를 조회하지 않기 위해 사용
+@Getter
+public final class UserPrincipal implements UserDetails {
+
+	private final Long id;
+	private final String email;
+	private final UserRole role;
+	private final int tokenVersion;
+
+	public UserPrincipal(Long id, String email, UserRole role, int tokenVersion) {
+		this.id = id;
+		this.email = email;
+		this.role = role;
+		this.tokenVersion = tokenVersion;
+	}
+
+	public static UserPrincipal from(User user) {
+		return new UserPrincipal(user.getId(), user.getEmail(), user.getRole(), user.getTokenVersion());
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return List.of(new SimpleGrantedAuthority(role.name()));
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public String getUsername() {
+		return this.email;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+}
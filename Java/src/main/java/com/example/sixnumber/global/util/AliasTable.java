@@ -0,0 +1,62 @@
+package com.example.sixnumber.global.util;
+
+import java.util.random.RandomGenerator;
+
+// Walker 의 alias method (Vose 방식) 로 가중치 비율대로 인덱스를 뽑음
+// 만들 때 O(n), 뽑을 때는 칸 하나를 고르고 난수 하나와 비교하는 O(1)
+// 만든 뒤에는 바뀌지 않으므로 여러 스레드가 그대로 같이 써도 됨
+public final class AliasTable {
+
+	private final double[] probability;
+	private final int[] alias;
+
+	public AliasTable(long[] weights) {
+		int n = weights.length;
+		if (n == 0) throw new IllegalArgumentException("가중치가 비어 있습니다");
+
+		double total = 0;
+		for (long weight : weights) {
+			if (weight < 0) throw new IllegalArgumentException("가중치는 음수일 수 없습니다");
+			total += weight;
+		}
+		if (total == 0) throw new IllegalArgumentException("가중치의 합이 0 입니다");
+
+		this.probability = new double[n];
+		this.alias = new int[n];
+
+		// 평균이 1 이 되도록 맞춘 뒤 1 보다 작은 칸을 큰 칸의 남는 몫으로 채움
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallSize = 0;
+		int largeSize = 0;
+		for (int i = 0; i < n; i++) {
+			scaled[i] = weights[i] * n / total;
+			if (scaled[i] < 1) small[smallSize++] = i;
+			else large[largeSize++] = i;
+		}
+
+		while (smallSize > 0 && largeSize > 0) {
+			int less = small[--smallSize];
+			int more = large[--largeSize];
+			probability[less] = scaled[less];
+			alias[less] = more;
+
+			scaled[more] = (scaled[more] + scaled[less]) - 1;
+			if (scaled[more] < 1) small[smallSize++] = more;
+			else large[largeSize++] = more;
+		}
+		// 남은 칸은 부동소수점 오차만 남은 것이므로 확률 1 로 둠
+		while (largeSize > 0) probability[large[--largeSize]] = 1;
+		while (smallSize > 0) probability[small[--smallSize]] = 1;
+	}
+
+	public int sample(RandomGenerator random) {
+		int column = random.nextInt(probability.length);
+		return random.nextDouble() < probability[column] ? column : alias[column];
+	}
+
+	public int size() {
+		return probability.length;
+	}
+}
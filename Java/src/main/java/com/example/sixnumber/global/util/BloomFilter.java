@@ -0,0 +1,71 @@
+package com.example.sixnumber.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// false 는 확실히 없음, true 는 있을 수도 있음을 뜻함 (오탐률은 생성 시 지정)
+// 삭제는 지원하지 않으므로 지워진 값은 다시 만들 때까지 오탐으로 남음
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		// 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n ln 2
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min(Integer.MAX_VALUE, (Math.max(64, m) + 63) / 64);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long) words * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			long mask = 1L << index;
+			int word = (int) (index >>> 6);
+			long current = bits.get(word);
+			// 이미 켜져 있으면 쓰지 않아 같은 값을 반복해서 넣어도 캐시 라인을 더럽히지 않음
+			while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+				current = bits.get(word);
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+		}
+		return true;
+	}
+
+	public long getBitSize() {
+		return bitSize;
+	}
+
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	// FNV-1a 로 섞은 뒤 murmur3 의 finalizer 로 비트를 고르게 퍼뜨림
+	private static long hash(String value, long seed) {
+		long h = seed;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			h ^= b;
+			h *= 0x100000001B3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
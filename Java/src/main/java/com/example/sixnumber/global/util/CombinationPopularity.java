@@ -0,0 +1,316 @@
+package com.example.sixnumber.global.util;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sixnumber.global.exception.ServerBusyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 가능한 모든 조합(C(45, 6) = 8,145,060 개)마다 구매된 횟수를 CombinationRank 위치에 세어 둠 (int 배열 약 32MB)
+// 구매가 커밋되면 바로 반영하고 pub/sub 으로 다른 서버에도 알림, 조회는 조합 하나당 배열 한 칸
+// 재시작 때 DB 를 전부 다시 읽지 않도록 주기적으로 파일에 저장하고 memory-mapped 로 읽어옴
+// 재시작 사이에 놓친 구매는 파일에 남긴 마지막 SixNumber id 뒤부터 다시 읽으므로 경계에서는 약간 어긋날 수 있는 추정치
+// 스키마가 다시 만들어지면 파일만 남으므로, 마지막 id 의 유저와 구매일을 같이 남겨 DB 의 같은 row 와 맞을 때만 파일을 믿음
+// 불러오기는 별도 스레드에서 하고, 그동안 들어온 구매는 모아 두었다가 DB 에서 읽은 마지막 id 뒤의 것만 반영함
+@Slf4j
+@Component
+public class CombinationPopularity implements MessageListener {
+
+	public static final String CHANNEL = "combination-popularity";
+	private static final long MAGIC = 0x4C4F54544F504F51L;
+	// MAGIC, 마지막 SixNumber id, 그 번호의 user_id, buy_date(epoch day)
+	private static final int HEADER_BYTES = 32;
+	private static final long FILE_BYTES = HEADER_BYTES + (long) CombinationRank.COUNT * Integer.BYTES;
+	private static final String SEPARATOR = "\n";
+	private static final String TICKET_QUERY = "SELECT s.id, n.number_list FROM six_number s"
+		+ " JOIN six_number_number_list n ON n.six_number_id = s.id WHERE s.id > ?";
+	private static final String MARKER_QUERY = "SELECT user_id, buy_date FROM six_number WHERE id = ?";
+	private static final long RETRY_MILLIS = 30_000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final Path snapshotPath;
+	private final int fetchSize;
+	// 자기가 보낸 알림은 이미 반영했으므로 건너뛰기 위함
+	private final String instanceId = UUID.randomUUID().toString();
+	private final AtomicIntegerArray counts = new AtomicIntegerArray(CombinationRank.COUNT);
+	private final AtomicLong lastSixNumberId = new AtomicLong();
+	// 마지막 저장 이후 바뀐 횟수, 바뀐 게 없으면 저장하지 않음
+	private final AtomicLong changes = new AtomicLong();
+	private volatile boolean loaded;
+	// 불러오는 동안 반영을 미뤄 둔 구매, loaded 를 바꿀 때도 이 목록으로 잠가서 그 사이에 들어온 구매를 놓치지 않음
+	private final List<Purchase> pending = new ArrayList<>();
+
+	public CombinationPopularity(RedisTemplate<String, String> redisTemplate, JdbcTemplate jdbcTemplate,
+		@Value("${combination-popularity.snapshot-path:data/combination-popularity.bin}") String snapshotPath,
+		@Value("${combination-popularity.fetch-size:10000}") int fetchSize) {
+		this.redisTemplate = redisTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.snapshotPath = Paths.get(snapshotPath);
+		this.fetchSize = fetchSize;
+	}
+
+	// 다 불러오기 전에는 0 이나 절반만 센 값이 나가므로 잠시 후 다시 요청하게 함
+	public int count(long mask) {
+		if (!loaded) throw new ServerBusyException();
+		return counts.get(CombinationRank.rank(mask));
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	// 구매가 롤백되면 세지 않도록 커밋된 뒤에 반영함
+	public void addAfterCommit(Long sixNumberId, List<String> tickets) {
+		int[] ranks = new int[tickets.size()];
+		for (int i = 0; i < ranks.length; i++) {
+			ranks[i] = CombinationRank.rank(NumberMask.of(tickets.get(i)));
+		}
+		long id = sixNumberId == null ? 0 : sixNumberId;
+		Runnable task = () -> {
+			apply(id, ranks);
+			redisTemplate.convertAndSend(CHANNEL, encode(id, ranks));
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	// "보낸 서버\nSixNumber id\nrank,rank,..."
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR);
+		if (body.length != 3 || body[0].equals(instanceId)) return;
+
+		String[] values = body[2].split(",");
+		int[] ranks = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			ranks[i] = Integer.parseInt(values[i]);
+		}
+		apply(Long.parseLong(body[1]), ranks);
+	}
+
+	// DB 전체를 읽을 수도 있으므로 다른 ApplicationReadyEvent 리스너를 막지 않게 따로 불러옴
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadInBackground() {
+		Thread thread = new Thread(this::loadUntilDone, "combination-popularity-load");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	// 파일을 읽고 그 뒤에 저장된 번호만 DB 에서 읽음, 파일이 없으면 전부 읽음
+	public void load() {
+		if (loaded) return;
+		long start = System.currentTimeMillis();
+		long fromId = readSnapshot();
+		catchUp(fromId);
+		synchronized (pending) {
+			// 같은 번호가 DB 에서도 읽혔으면 두 번 세지 않도록 읽은 마지막 id 뒤의 구매만 반영함
+			long lastId = lastSixNumberId.get();
+			for (Purchase purchase : pending) {
+				if (purchase.sixNumberId > lastId) increment(purchase.sixNumberId, purchase.ranks);
+			}
+			pending.clear();
+			loaded = true;
+		}
+		log.info("조합 구매 횟수 불러오기 완료 (" + (fromId == 0 ? "DB 전체" : "파일 + " + fromId + " 이후")
+			+ ", " + (System.currentTimeMillis() - start) + "ms)");
+	}
+
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${combination-popularity.snapshot-millis:300000}")
+	public void snapshot() {
+		if (!loaded) return;
+		long changed = changes.getAndSet(0);
+		if (changed == 0) return;
+
+		try {
+			if (writeSnapshot()) return;
+		} catch (IOException | DataAccessException e) {
+			log.error("조합 구매 횟수 저장 실패", e);
+		}
+		// 저장하지 못했으면 다음 주기에 다시 시도함
+		changes.addAndGet(changed);
+	}
+
+	private void loadUntilDone() {
+		while (true) {
+			try {
+				load();
+				return;
+			} catch (DataAccessException e) {
+				log.error("조합 구매 횟수 불러오기 실패, " + RETRY_MILLIS + "ms 뒤 다시 시도", e);
+				reset();
+			}
+			try {
+				Thread.sleep(RETRY_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void apply(long sixNumberId, int[] ranks) {
+		if (!loaded) {
+			synchronized (pending) {
+				if (!loaded) {
+					pending.add(new Purchase(sixNumberId, ranks));
+					return;
+				}
+			}
+		}
+		increment(sixNumberId, ranks);
+	}
+
+	private void increment(long sixNumberId, int[] ranks) {
+		for (int rank : ranks) {
+			counts.incrementAndGet(rank);
+		}
+		lastSixNumberId.accumulateAndGet(sixNumberId, Math::max);
+		changes.addAndGet(ranks.length);
+	}
+
+	private String encode(long sixNumberId, int[] ranks) {
+		StringBuilder builder = new StringBuilder(instanceId).append(SEPARATOR).append(sixNumberId).append(SEPARATOR);
+		for (int i = 0; i < ranks.length; i++) {
+			if (i > 0) builder.append(',');
+			builder.append(ranks[i]);
+		}
+		return builder.toString();
+	}
+
+	private void catchUp(long fromId) {
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(TICKET_QUERY);
+			statement.setFetchSize(fetchSize);
+			statement.setLong(1, fromId);
+			return statement;
+		}, (RowCallbackHandler) rs -> increment(rs.getLong(1), new int[] {CombinationRank.rank(NumberMask.of(rs.getString(2)))}));
+	}
+
+	// 저장된 마지막 SixNumber id 를 반환, 파일이 없거나 형식이 다르거나 DB 와 맞지 않으면 0
+	private long readSnapshot() {
+		if (!Files.exists(snapshotPath)) return 0;
+
+		try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+			if (channel.size() != FILE_BYTES) return 0;
+
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_BYTES);
+			if (buffer.getLong() != MAGIC) return 0;
+			long lastId = buffer.getLong();
+			long[] saved = {buffer.getLong(), buffer.getLong()};
+			// 마지막 id 가 DB 에 없거나(MAX(id) < lastId) 다른 번호라면 DB 가 새로 만들어진 것
+			if (!Arrays.equals(saved, marker(lastId))) {
+				log.warn("조합 구매 횟수 파일이 DB 와 맞지 않아 DB 에서 다시 읽음 (" + lastId + ")");
+				return 0;
+			}
+			IntBuffer values = buffer.asIntBuffer();
+			for (int i = 0; i < CombinationRank.COUNT; i++) {
+				counts.set(i, values.get(i));
+			}
+			lastSixNumberId.set(lastId);
+			return lastId;
+		} catch (IOException e) {
+			log.warn("조합 구매 횟수 파일을 읽지 못해 DB 에서 다시 읽음", e);
+			reset();
+			return 0;
+		}
+	}
+
+	// 불러오는 중에는 불러오는 스레드만 counts 를 바꾸므로 처음부터 다시 읽을 수 있음
+	private void reset() {
+		for (int i = 0; i < CombinationRank.COUNT; i++) counts.set(i, 0);
+		lastSixNumberId.set(0);
+	}
+
+	// {user_id, buy_date} 로 DB 의 번호를 식별함, 없으면 null
+	private long[] marker(long sixNumberId) {
+		if (sixNumberId <= 0) return null;
+
+		List<long[]> rows = jdbcTemplate.query(MARKER_QUERY, (rs, rowNum) -> {
+			Date buyDate = rs.getDate(2);
+			return new long[] {rs.getLong(1), buyDate == null ? -1 : buyDate.toLocalDate().toEpochDay()};
+		}, sixNumberId);
+		return rows.isEmpty() ? null : rows.get(0);
+	}
+
+	// 임시 파일에 쓴 뒤 이름을 바꿔서 쓰는 도중에 죽어도 이전 파일이 남게 함
+	private boolean writeSnapshot() throws IOException {
+		Path parent = snapshotPath.toAbsolutePath().getParent();
+		if (parent != null) Files.createDirectories(parent);
+		Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+		// id 를 먼저 읽어서, 복사하는 동안 들어온 구매는 재시작 때 한 번 더 읽히는 쪽으로 어긋나게 함
+		long lastId = lastSixNumberId.get();
+		long[] marker = marker(lastId);
+		// 확인할 수 없는 파일은 다음 시작 때 버려지므로 쓰지 않음
+		if (marker == null) return false;
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES);
+			buffer.putLong(MAGIC);
+			buffer.putLong(lastId);
+			buffer.putLong(marker[0]);
+			buffer.putLong(marker[1]);
+			IntBuffer values = buffer.asIntBuffer();
+			for (int i = 0; i < CombinationRank.COUNT; i++) {
+				values.put(i, counts.get(i));
+			}
+			buffer.force();
+		}
+		Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return true;
+	}
+
+	private static class Purchase {
+		private final long sixNumberId;
+		private final int[] ranks;
+
+		private Purchase(long sixNumberId, int[] ranks) {
+			this.sixNumberId = sixNumberId;
+			this.ranks = ranks;
+		}
+	}
+}
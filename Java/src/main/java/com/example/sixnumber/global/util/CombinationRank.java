@@ -0,0 +1,37 @@
+package com.example.sixnumber.global.util;
+
+// 1~45 중 6개 조합을 0 ~ C(45, 6) - 1 사이의 번호로 바꿈 (colex 순서)
+// 오름차순 i 번째 번호 c 에 대해 C(c - 1, i) 를 더한 값이라 조합마다 겹치지 않음
+public final class CombinationRank {
+
+	public static final int PICK = 6;
+	public static final int COUNT = 8_145_060;
+
+	// BINOMIAL[n][k] = C(n, k), n 은 0~44
+	private static final int[][] BINOMIAL = new int[NumberMask.MAX_NUMBER][PICK + 1];
+
+	static {
+		for (int n = 0; n < NumberMask.MAX_NUMBER; n++) {
+			BINOMIAL[n][0] = 1;
+			for (int k = 1; k <= Math.min(n, PICK); k++) {
+				BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k <= n - 1 ? BINOMIAL[n - 1][k] : 0);
+			}
+		}
+	}
+
+	private CombinationRank() {
+	}
+
+	// NumberMask 형태의 번호 6개
+	public static int rank(long mask) {
+		if (Long.bitCount(mask) != PICK || (mask & 1L) != 0 || (mask >>> (NumberMask.MAX_NUMBER + 1)) != 0) {
+			throw new IllegalArgumentException("번호 6개 조합이 아닙니다");
+		}
+		int rank = 0;
+		int i = 1;
+		for (long rest = mask; rest != 0; rest &= rest - 1) {
+			rank += BINOMIAL[Long.numberOfTrailingZeros(rest) - 1][i++];
+		}
+		return rank;
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.sixnumber.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 번호마다 반감기(half-life)가 지날 때마다 절반으로 줄어드는 출현 횟수, 최근에 생성된 번호일수록 크게 반영됨
+// 주기적으로 45 개를 모두 줄이지 않고 기준 시각 origin 에서 e^(λ(t - origin)) 만큼 키운 값을 더해 두고 읽을 때 한 번에 줄임
+// 키운 배율이 double 범위를 넘기 전에만 45 개를 새 기준 시각으로 다시 맞춤
+// 다른 서버에는 pub/sub 으로 생성 시각과 번호를 보내 같은 시각으로 더하게 하고, 재시작 때는 Redis 에 남긴 값에서 이어감
+@Slf4j
+@Component
+public class DecayedFrequency implements MessageListener {
+
+	public static final String CHANNEL = "decayed-frequency";
+	public static final String KEY = "DF";
+	// e^300 정도까지만 키움, double 최대값은 e^709 근처
+	private static final double MAX_EXPONENT = 300;
+	private static final String SEPARATOR = "\n";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	// 1ms 당 감쇠율, ln2 / 반감기
+	private final double lambda;
+	// 자기가 보낸 알림은 이미 반영했으므로 건너뛰기 위함
+	private final String instanceId = UUID.randomUUID().toString();
+	private final double[] scaled = new double[NumberMask.MAX_NUMBER];
+	private long origin = System.currentTimeMillis();
+
+	public DecayedFrequency(RedisTemplate<String, String> redisTemplate,
+		@Value("${decayed-frequency.half-life-hours:168}") double halfLifeHours) {
+		if (halfLifeHours <= 0) throw new IllegalArgumentException("반감기는 0 보다 커야 합니다");
+		this.redisTemplate = redisTemplate;
+		this.lambda = Math.log(2) / (halfLifeHours * 3_600_000);
+	}
+
+	// 생성이 롤백되면 세지 않도록 커밋된 뒤에 반영함
+	public void addAfterCommit(List<String> tickets) {
+		int[] numbers = tickets.stream()
+			.flatMap(ticket -> Arrays.stream(ticket.trim().split(" +")))
+			.mapToInt(Integer::parseInt)
+			.toArray();
+		if (numbers.length == 0) return;
+		long at = System.currentTimeMillis();
+		Runnable task = () -> {
+			add(at, numbers);
+			redisTemplate.convertAndSend(CHANNEL, encode(at, numbers));
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	// 번호 하나당 배열 한 칸만 바꿈, 늦게 도착한 알림처럼 at 이 origin 보다 앞서도 그대로 더하면 됨
+	public synchronized void add(long at, int[] numbers) {
+		for (int number : numbers) {
+			NumberMask.bit(number);
+		}
+		double exponent = lambda * (at - origin);
+		if (exponent > MAX_EXPONENT) {
+			rebase(at);
+			exponent = 0;
+		}
+		double weight = Math.exp(exponent);
+		for (int number : numbers) {
+			scaled[number - 1] += weight;
+		}
+	}
+
+	public double[] values() {
+		return values(System.currentTimeMillis());
+	}
+
+	// at 시각 기준으로 줄인 값, 인덱스 0 이 1번
+	public synchronized double[] values(long at) {
+		double decay = Math.exp(-lambda * (at - origin));
+		double[] result = new double[scaled.length];
+		for (int i = 0; i < scaled.length; i++) {
+			result[i] = scaled[i] * decay;
+		}
+		return result;
+	}
+
+	// "보낸 서버\n생성 시각\n번호,번호,..."
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR);
+		if (body.length != 3 || body[0].equals(instanceId)) return;
+
+		String[] values = body[2].split(",");
+		int[] numbers = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			numbers[i] = Integer.parseInt(values[i]);
+		}
+		add(Long.parseLong(body[1]), numbers);
+	}
+
+	// 서버가 뜨기 전까지 쌓인 값을 더함, 뜨는 동안 받은 알림과 겹치는 부분은 약간 더 세어질 수 있는 추정치
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		String value = redisTemplate.opsForValue().get(KEY);
+		if (value == null) return;
+
+		String[] values = value.split(" ");
+		if (values.length != NumberMask.MAX_NUMBER + 1) {
+			log.warn("감쇠 출현 횟수 형식이 달라 처음부터 셈");
+			return;
+		}
+		synchronized (this) {
+			double weight = Math.exp(lambda * (Long.parseLong(values[0]) - origin));
+			for (int i = 0; i < scaled.length; i++) {
+				scaled[i] += Double.parseDouble(values[i + 1]) * weight;
+			}
+		}
+	}
+
+	// 서버마다 같은 값을 들고 있으므로 어느 서버가 덮어써도 됨, "저장 시각 1번 2번 ... 45번"
+	@Scheduled(fixedDelayString = "${decayed-frequency.snapshot-millis:60000}")
+	public void snapshot() {
+		long at = System.currentTimeMillis();
+		StringBuilder builder = new StringBuilder().append(at);
+		for (double value : values(at)) {
+			builder.append(' ').append(value);
+		}
+		redisTemplate.opsForValue().set(KEY, builder.toString());
+	}
+
+	private void rebase(long at) {
+		double decay = Math.exp(-lambda * (at - origin));
+		for (int i = 0; i < scaled.length; i++) {
+			scaled[i] *= decay;
+		}
+		origin = at;
+	}
+
+	private String encode(long at, int[] numbers) {
+		StringBuilder builder = new StringBuilder(instanceId).append(SEPARATOR).append(at).append(SEPARATOR);
+		for (int i = 0; i < numbers.length; i++) {
+			if (i > 0) builder.append(',');
+			builder.append(numbers[i]);
+		}
+		return builder.toString();
+	}
+}
@@ -2,8 +2,6 @@ package com.example.sixnumber.global.util;
 
 import java.security.Key;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Objects;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -11,12 +9,12 @@ import org.springframework.stereotype.Component;
 
 import com.example.sixnumber.user.entity.User;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,35 +26,37 @@ public class JwtProvider {
 
 	public static final String AUTHORIZATION_HEADER = "Authorization";
 	public static final String BEARER_PREFIX = "Bearer";
+	public static final String ROLE_CLAIM = "role";
+	public static final String VERSION_CLAIM = "ver";
 	private static final Key KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+	// 파서는 불변이고 thread-safe 라서 한번만 만들어 모든 요청에서 같이 사용함
+	private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(KEY).build();
 	private static final int expire = 1000 * 60 * 30;
 	private static final Long refreshExpire = 7 * 24 * 60 * 60 * 1000L;
-	private static final Date curDate = new Date();
 
-	public String accessToken(String email, Long userId) {
-		HashMap<String, Object> headers = new HashMap<>();
-		headers.put("typ", "JWT");
-		headers.put("alg", "HS256");
+	// 인증 필터가 DB 조회 없이 principal 을 만들 수 있도록 role 과 tokenVersion 을 같이 담음
+	public String accessToken(User user) {
+		Date now = new Date();
 		return Jwts.builder()
-			.setHeader(headers)
-			.setSubject(email)
-			.claim("id", userId)
-			.setIssuedAt(curDate)
-			.setExpiration(setExpireDate((long) expire))
+			.setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+			.setSubject(user.getEmail())
+			.claim("id", user.getId())
+			.claim(ROLE_CLAIM, user.getRole().name())
+			.claim(VERSION_CLAIM, user.getTokenVersion())
+			.setIssuedAt(now)
+			.setExpiration(setExpireDate(now, (long) expire))
 			.signWith(KEY)
 			.compact();
 	}
 
 	public String refreshToken(String email, Long userId) {
-		HashMap<String, Object> headers = new HashMap<>();
-		headers.put("typ", "JWT");
-		headers.put("alg", "HS256");
+		Date now = new Date();
 		return Jwts.builder()
-			.setHeader(headers)
+			.setHeaderParam(Header.TYPE, Header.JWT_TYPE)
 			.setSubject(email)
 			.claim("id", userId)
-			.setIssuedAt(curDate)
-			.setExpiration(setExpireDate(refreshExpire))
+			.setIssuedAt(now)
+			.setExpiration(setExpireDate(now, refreshExpire))
 			.signWith(KEY)
 			.compact();
 	}
@@ -70,38 +70,21 @@ public class JwtProvider {
 		return null;
 	}
 
-	public Boolean validateToken(String token) throws ExpiredJwtException {
+	// 서명 검증과 claims 추출을 한번의 파싱으로 처리함
+	public JwtResult verify(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(KEY).build().parseClaimsJws(token);
-		return true;
-		} catch (SecurityException | MalformedJwtException e) {
-			log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
-		} catch (UnsupportedJwtException e) {
-			log.info("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+			return JwtResult.valid(PARSER.parseClaimsJws(token).getBody());
+		} catch (ExpiredJwtException e) {
+			return JwtResult.expired(e.getClaims());
+		} catch (JwtException e) {
+			log.info("Invalid JWT token, 유효하지 않은 JWT 토큰 입니다. {}", e.getMessage());
 		} catch (IllegalArgumentException e) {
 			log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
 		}
-		return false;
-	}
-
-	public Claims getClaims(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(KEY)
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
-	}
-
-	public void setExpire(String token) {
-		getClaims(token).setExpiration(new Date());
-	}
-
-	public Boolean isTokenExpired(String token) {
-		Date expirationDate = getClaims(token).getExpiration();
-		return expirationDate.before(new Date());
+		return JwtResult.invalid();
 	}
 
-	public Date setExpireDate(Long data) {
-		return new Date(curDate.getTime() + data);
+	private Date setExpireDate(Date now, Long data) {
+		return new Date(now.getTime() + data);
 	}
 }
@@ -0,0 +1,37 @@
+package com.example.sixnumber.global.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 토큰을 한번만 파싱해서 검증 결과와 claims 를 같이 넘겨줌, 만료된 토큰도 재발급을 위해 claims 를 담음
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtResult {
+
+	public enum Status {
+		VALID, EXPIRED, INVALID
+	}
+
+	private static final JwtResult INVALID = new JwtResult(Status.INVALID, null);
+
+	private final Status status;
+	private final Claims claims;
+
+	public static JwtResult valid(Claims claims) {
+		return new JwtResult(Status.VALID, claims);
+	}
+
+	public static JwtResult expired(Claims claims) {
+		return new JwtResult(Status.EXPIRED, claims);
+	}
+
+	public static JwtResult invalid() {
+		return INVALID;
+	}
+
+	public boolean isValid() {
+		return status == Status.VALID;
+	}
+}
@@ -1,14 +1,27 @@
 package com.example.sixnumber.global.util;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.sixnumber.global.dto.UserLookupStatsResponse;
 import com.example.sixnumber.global.exception.UserNotFoundException;
+import com.example.sixnumber.global.scurity.SessionCache;
 import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.type.Status;
 
 import lombok.AllArgsConstructor;
 
@@ -16,21 +29,168 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class Manager {
 
+	// Oracle 은 IN 절에 1000개까지만 허용함
+	private static final int CHUNK_SIZE = 1000;
+
 	private final UserRepository userRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final SessionCache sessionCache;
+	private final LongAdder transactions = new LongAdder();
+	private final LongAdder lookupCount = new LongAdder();
+	private final LongAdder queryCount = new LongAdder();
+	private final AtomicLong maxLookups = new AtomicLong();
 
+	// 같은 트랜잭션 안에서 이미 조회한 유저는 id, email 어느 쪽으로 찾든 다시 조회하지 않음
 	public User findUser(Object object) {
-		if (object instanceof Long userId) {
-			return userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-		} else if (object instanceof String email) {
-			return userRepository.findByEmail(email).orElseThrow(UserNotFoundException::new);
-		} else throw new IllegalArgumentException("잘못된 접근입니다");
+		if (!(object instanceof Long) && !(object instanceof String)) throw new IllegalArgumentException("잘못된 접근입니다");
+
+		UserLookups lookups = currentLookups();
+		if (lookups == null) return load(object);
+
+		lookups.count++;
+		User user = object instanceof Long ? lookups.byId.get(object) : lookups.byEmail.get(object);
+		if (user != null) return user;
+
+		user = load(object);
+		lookups.queries++;
+		lookups.byId.put(user.getId(), user);
+		lookups.byEmail.put(user.getEmail(), user);
+		return user;
+	}
+
+	public UserLookupStatsResponse getLookupStats() {
+		long count = transactions.sum();
+		double average = count == 0 ? 0 : (double) lookupCount.sum() / count;
+		return new UserLookupStatsResponse(count, lookupCount.sum(), queryCount.sum(), average, maxLookups.get());
 	}
 
-	public String reviseResult(List<Integer> sortedIndices, List<Integer> countList) {
-		sortedIndices.sort((index1, index2) -> countList.get(index2).compareTo(countList.get(index1)));
+	// 정수 횟수와 감쇠된 실수 횟수를 같이 받음
+	public String reviseResult(List<Integer> sortedIndices, List<? extends Number> countList) {
+		sortedIndices.sort((index1, index2) ->
+			Double.compare(countList.get(index2).doubleValue(), countList.get(index1).doubleValue()));
 		List<Integer> topIndices = sortedIndices.subList(0, Math.min(sortedIndices.size(), 6));
 		Collections.sort(topIndices);
 		topIndices.replaceAll(Integer -> Integer + 1);
 		return topIndices.stream().map(Object::toString).collect(Collectors.joining(" "));
 	}
+
+	// 미처리 충전 요청이 쌓인 유저를 한번에 정지시키고 세션을 끊음, 스케줄러와 관리자 요청에서 같이 사용
+	public int suspendUntreatedUsers(int chargingCount) {
+		List<Long> userIds = userRepository.findIdByUntreated(chargingCount, Status.SUSPENDED);
+		if (userIds.isEmpty()) return 0;
+
+		// updateStatusByIds 가 영속성 컨텍스트를 비우므로 들고 있던 유저도 더 이상 최신이 아님
+		UserLookups lookups = currentLookups();
+		if (lookups != null) lookups.clear();
+
+		int updated = 0;
+		List<Long> suspended = new ArrayList<>();
+		for (List<Long> chunk : partition(userIds)) {
+			int count = userRepository.updateStatusByIds(Status.SUSPENDED, chunk, chargingCount);
+			updated += count;
+			// 조회 후 충전 요청이 처리되어 조건에서 빠진 유저가 있으면 실제로 정지된 유저만 다시 골라 세션을 끊음
+			if (count == chunk.size()) suspended.addAll(chunk);
+			else if (count > 0) suspended.addAll(userRepository.findIdByIdInAndStatus(chunk, Status.SUSPENDED));
+		}
+		revokeRefreshTokens(suspended);
+		return updated;
+	}
+
+	// 유저마다 GET, DEL 을 하지 않고 multi-key DEL 을 파이프라인으로 한번에 보냄
+	public void revokeRefreshTokens(List<Long> userIds) {
+		if (userIds.isEmpty()) return;
+
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (List<Long> chunk : partition(userIds)) {
+				byte[][] keys = chunk.stream()
+					.map(userId -> serializer.serialize("RT: " + userId))
+					.toArray(byte[][]::new);
+				connection.del(keys);
+			}
+			return null;
+		});
+		sessionCache.evictAll(userIds);
+	}
+
+	// 권한, 상태 변경이 커밋된 뒤에 현재 tokenVersion 을 기록해 이전 버전으로 발급된 토큰을 재발급하게 만듦
+	// 커밋 전에 기록하면 필터가 아직 바뀌기 전 정보로 토큰을 다시 만들 수 있음
+	public void publishTokenVersion(User user) {
+		String key = "TV: " + user.getId();
+		String version = String.valueOf(user.getTokenVersion());
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			redisTemplate.opsForValue().set(key, version);
+			sessionCache.evict(user.getId());
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				redisTemplate.opsForValue().set(key, version);
+				sessionCache.evict(user.getId());
+			}
+		});
+	}
+
+	private User load(Object object) {
+		if (object instanceof Long userId) {
+			return userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+		}
+		return userRepository.findByEmail((String) object).orElseThrow(UserNotFoundException::new);
+	}
+
+	// 트랜잭션이 없으면 null, 있으면 트랜잭션이 끝날 때까지 유지되는 조회 기록을 반환함
+	private UserLookups currentLookups() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+
+		UserLookups lookups = (UserLookups) TransactionSynchronizationManager.getResource(this);
+		if (lookups != null) return lookups;
+
+		UserLookups created = new UserLookups();
+		TransactionSynchronizationManager.bindResource(this, created);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			// REQUIRES_NEW 로 새 트랜잭션이 열리면 바깥 트랜잭션의 유저를 공유하지 않음
+			@Override
+			public void suspend() {
+				TransactionSynchronizationManager.unbindResource(Manager.this);
+			}
+
+			@Override
+			public void resume() {
+				TransactionSynchronizationManager.bindResource(Manager.this, created);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(Manager.this);
+				transactions.increment();
+				lookupCount.add(created.count);
+				queryCount.add(created.queries);
+				maxLookups.accumulateAndGet(created.count, Math::max);
+			}
+		});
+		return created;
+	}
+
+	private static <T> List<List<T>> partition(List<T> list) {
+		List<List<T>> chunks = new ArrayList<>();
+		for (int i = 0; i < list.size(); i += CHUNK_SIZE) {
+			chunks.add(list.subList(i, Math.min(list.size(), i + CHUNK_SIZE)));
+		}
+		return chunks;
+	}
+
+	// 트랜잭션은 한 스레드에서만 사용되므로 동기화하지 않음
+	private static class UserLookups {
+		private final Map<Long, User> byId = new HashMap<>();
+		private final Map<String, User> byEmail = new HashMap<>();
+		private int count;
+		private int queries;
+
+		private void clear() {
+			byId.clear();
+			byEmail.clear();
+		}
+	}
 }
@@ -0,0 +1,74 @@
+package com.example.sixnumber.global.util;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+
+// 1~45 번호 조합을 long 의 1~45 번 비트로 표현함, 일치 개수는 AND 후 bitCount 한 번으로 구함
+public final class NumberMask {
+
+	public static final int MAX_NUMBER = 45;
+
+	private NumberMask() {
+	}
+
+	// "1 2 3 4 5 6" 형태의 문자열을 split, parseInt 없이 바로 비트로 바꿈
+	public static long of(String numbers) {
+		long mask = 0;
+		int value = 0;
+		boolean digit = false;
+		for (int i = 0; i < numbers.length(); i++) {
+			char c = numbers.charAt(i);
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				digit = true;
+			} else if (digit) {
+				mask |= bit(value);
+				value = 0;
+				digit = false;
+			}
+		}
+		if (digit) mask |= bit(value);
+		return mask;
+	}
+
+	public static long bit(int number) {
+		if (number < 1 || number > MAX_NUMBER) throw new InvalidInputException();
+		return 1L << number;
+	}
+
+	public static int matches(long ticket, long win) {
+		return Long.bitCount(ticket & win);
+	}
+
+	// 1등 6개, 2등 5개 + 보너스, 3등 5개, 4등 4개, 5등 3개 일치, 낙첨은 0
+	public static int rank(long ticket, long win, long bonus) {
+		return switch (matches(ticket, win)) {
+			case 6 -> 1;
+			case 5 -> (ticket & bonus) != 0 ? 2 : 3;
+			case 4 -> 4;
+			case 3 -> 5;
+			default -> 0;
+		};
+	}
+
+	// 당첨 번호 6개 뒤에 보너스 번호가 오는 "1 2 3 4 5 6 7" 형태를 검증하고 {당첨 번호, 보너스} 로 나눔
+	public static long[] draw(String numbers) {
+		String[] values = numbers.trim().split(" +");
+		if (values.length != 7) throw new InvalidInputException();
+
+		long win = 0;
+		for (int i = 0; i < 6; i++) {
+			win |= bit(parse(values[i]));
+		}
+		long bonus = bit(parse(values[6]));
+		if (Long.bitCount(win) != 6 || (win & bonus) != 0) throw new InvalidInputException();
+		return new long[] {win, bonus};
+	}
+
+	private static int parse(String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new InvalidInputException();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.sixnumber.global.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.sixnumber.global.dto.PasswordHasherStatsResponse;
+import com.example.sixnumber.global.exception.ServerBusyException;
+
+// BCrypt 연산을 요청 스레드가 아닌 전용 풀에서 처리함
+// 풀과 대기열이 가득 차거나 대기 시간이 길어지면 바로 거절해서 로그인이 몰려도 다른 API 는 영향을 받지 않게 함
+@Component
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long queueTimeoutMillis;
+
+	private final LongAdder hashes = new LongAdder();
+	private final LongAdder hashNanos = new LongAdder();
+	private final AtomicLong maxHashNanos = new AtomicLong();
+	private final LongAdder queueWaitNanos = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+
+	public PasswordHasher(PasswordEncoder passwordEncoder,
+		@Value("${password-hasher.pool-size:0}") int poolSize,
+		@Value("${password-hasher.queue-capacity:64}") int queueCapacity,
+		@Value("${password-hasher.queue-timeout-millis:2000}") long queueTimeoutMillis) {
+		// 0 이면 CPU 코어 수만큼 사용, BCrypt 는 CPU 작업이라 그 이상 늘려도 처리량이 늘지 않음
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		AtomicInteger sequence = new AtomicInteger();
+
+		this.passwordEncoder = passwordEncoder;
+		this.queueTimeoutMillis = queueTimeoutMillis;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-" + sequence.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	public String encode(String rawPassword) {
+		return submit(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	public PasswordHasherStatsResponse getStats() {
+		long count = hashes.sum();
+		long averageMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(hashNanos.sum() / count);
+		long averageQueueWaitMillis = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.sum() / count);
+		return new PasswordHasherStatsResponse(count, rejections.sum(), timeouts.sum(), averageMillis,
+			TimeUnit.NANOSECONDS.toMillis(maxHashNanos.get()), averageQueueWaitMillis,
+			executor.getActiveCount(), executor.getQueue().size());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> T submit(Callable<T> hashing) {
+		long submitted = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				long started = System.nanoTime();
+				// 대기열에서 너무 오래 기다린 요청은 이미 호출한 쪽이 포기했으므로 계산하지 않음
+				if (started - submitted > TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis)) {
+					throw new TimeoutException();
+				}
+
+				T result = hashing.call();
+				record(started - submitted, System.nanoTime() - started);
+				return result;
+			});
+		} catch (RejectedExecutionException e) {
+			rejections.increment();
+			throw new ServerBusyException();
+		}
+
+		try {
+			return future.get(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			timeouts.increment();
+			throw new ServerBusyException();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ServerBusyException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				timeouts.increment();
+				throw new ServerBusyException();
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private void record(long waitNanos, long elapsedNanos) {
+		hashes.increment();
+		hashNanos.add(elapsedNanos);
+		queueWaitNanos.add(waitNanos);
+		maxHashNanos.accumulateAndGet(elapsedNanos, Math::max);
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.sixnumber.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.repository.UserRepository.UserSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 가입된 email, nickname 을 Bloom filter 로 들고 있어서 없는 값은 DB 조회 없이 바로 판단함
+// 있을 수도 있다고 나온 경우만 DB 로 확인하며, 다른 서버에서 추가된 값은 pub/sub 으로 받아 반영함
+@Slf4j
+@Component
+public class SignupFilter implements MessageListener {
+
+	public static final String CHANNEL = "signup-filter";
+	private static final String REBUILD = "*";
+	private static final String SEPARATOR = "\n";
+	private static final int BATCH_SIZE = 10000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final UserRepository userRepository;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+	// 아직 만들어지지 않았으면 null, 이때는 모든 값을 있을 수도 있음으로 처리함
+	private volatile Filters current;
+	// 다시 만드는 동안 추가된 값을 새 필터에도 넣기 위함
+	private volatile Filters building;
+
+	public SignupFilter(RedisTemplate<String, String> redisTemplate, UserRepository userRepository,
+		@Value("${signup-filter.expected-insertions:100000}") long expectedInsertions,
+		@Value("${signup-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.redisTemplate = redisTemplate;
+		this.userRepository = userRepository;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	public boolean mightContainEmail(String email) {
+		Filters filters = current;
+		return filters == null || filters.emails.mightContain(email);
+	}
+
+	public boolean mightContainNickname(String nickname) {
+		Filters filters = current;
+		return filters == null || filters.nicknames.mightContain(nickname);
+	}
+
+	public void add(String email, String nickname) {
+		addLocal(email, nickname);
+		redisTemplate.convertAndSend(CHANNEL, email + SEPARATOR + nickname);
+	}
+
+	// 삭제된 값은 필터에서 뺄 수 없으므로 정리 작업이 끝나면 모든 서버에서 다시 만들도록 알림
+	public void rebuildAll() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			redisTemplate.convertAndSend(CHANNEL, REBUILD);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				redisTemplate.convertAndSend(CHANNEL, REBUILD);
+			}
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		long expected = Math.max(expectedInsertions, userRepository.count() * 2);
+		Filters next = new Filters(expected, falsePositiveRate);
+		building = next;
+
+		Long cursor = null;
+		List<UserSummary> users;
+		do {
+			users = userRepository.findSummaries(cursor, null, null, null, PageRequest.of(0, BATCH_SIZE));
+			for (UserSummary user : users) {
+				next.put(user.getEmail(), user.getNickname());
+			}
+			if (!users.isEmpty()) cursor = users.get(users.size() - 1).getId();
+		} while (users.size() == BATCH_SIZE);
+
+		current = next;
+		building = null;
+		log.info("가입 정보 필터 생성 완료 (bits: " + next.emails.getBitSize() + ", hashes: " + next.emails.getHashCount() + ")");
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (body.equals(REBUILD)) {
+			rebuild();
+			return;
+		}
+
+		String[] emailNickname = body.split(SEPARATOR, 2);
+		if (emailNickname.length == 2) addLocal(emailNickname[0], emailNickname[1]);
+	}
+
+	private void addLocal(String email, String nickname) {
+		Filters filters = current;
+		if (filters != null) filters.put(email, nickname);
+		Filters next = building;
+		if (next != null) next.put(email, nickname);
+	}
+
+	private static class Filters {
+		private final BloomFilter emails;
+		private final BloomFilter nicknames;
+
+		private Filters(long expectedInsertions, double falsePositiveRate) {
+			this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+			this.nicknames = new BloomFilter(expectedInsertions, falsePositiveRate);
+		}
+
+		private void put(String email, String nickname) {
+			emails.put(email);
+			nicknames.put(nickname);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.sixnumber.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.sixnumber.user.dto.WinNumberResponse;
+
+import lombok.Getter;
+
+// 당첨 번호는 주에 한 번 바뀌므로 파싱한 결과를 로컬에 들고 있다가 setWinNumber 때만 다시 읽음
+// 변경은 pub/sub 으로 모든 서버에 알려서 각자 캐시를 비움
+@Component
+public class WinNumberCache implements MessageListener {
+
+	public static final String CHANNEL = "win-number-changed";
+	public static final String KEY = "WNL";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	// 무효화가 일어날 때마다 증가, 읽는 도중 무효화되었으면 그 결과는 캐싱하지 않음
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	public WinNumberCache(RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	public Snapshot get() {
+		Snapshot current = snapshot.get();
+		if (current != null) return current;
+
+		long stamp = generation.get();
+		List<String> values = redisTemplate.opsForList().range(KEY, 0, -1);
+		Snapshot loaded = new Snapshot(values == null ? List.of() : values);
+		if (generation.get() != stamp) return loaded;
+
+		// 먼저 넣고 다시 확인함, 넣는 사이에 무효화가 일어났다면 방금 넣은 값만 지우고 그 뒤에 들어온 값은 남김
+		snapshot.set(loaded);
+		if (generation.get() != stamp) snapshot.compareAndSet(loaded, null);
+		return loaded;
+	}
+
+	public void invalidate() {
+		invalidateLocal();
+		redisTemplate.convertAndSend(CHANNEL, KEY);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		invalidateLocal();
+	}
+
+	private void invalidateLocal() {
+		generation.incrementAndGet();
+		snapshot.set(null);
+	}
+
+	@Getter
+	public static class Snapshot {
+		private final List<WinNumberResponse> winNumbers;
+		// 원본 문자열로 만든 값이라 내용이 같으면 서버가 달라도 같은 ETag 가 나옴
+		private final String etag;
+
+		private Snapshot(List<String> values) {
+			this.winNumbers = values.stream().map(WinNumberResponse::new).toList();
+			this.etag = etag(values);
+		}
+
+		private static String etag(List<String> values) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256");
+				byte[] hash = digest.digest(String.join("\n", values).getBytes(StandardCharsets.UTF_8));
+				return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
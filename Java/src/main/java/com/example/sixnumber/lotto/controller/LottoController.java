@@ -1,15 +1,24 @@
 package com.example.sixnumber.lotto.controller;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.sixnumber.global.dto.ItemApiResponse;
+import com.example.sixnumber.global.dto.ListApiResponse;
 import com.example.sixnumber.lotto.dto.LottoResponse;
+import com.example.sixnumber.lotto.dto.PairResponse;
 import com.example.sixnumber.lotto.dto.YearMonthRequest;
 import com.example.sixnumber.lotto.service.LottoService;
+import com.example.sixnumber.lotto.type.PairSource;
+import com.example.sixnumber.user.dto.WinNumberResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +34,35 @@ public class LottoController {
 		return ResponseEntity.ok(lottoService.mainTopNumbers());
 	}
 
+	@GetMapping("/main/decayed")
+	public ResponseEntity<ItemApiResponse<LottoResponse>> decayedTopNumbers() {
+		return ResponseEntity.ok(lottoService.decayedTopNumbers());
+	}
+
+	@GetMapping("/draws")
+	public ResponseEntity<ListApiResponse<WinNumberResponse>> getDraws(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		return ResponseEntity.ok(lottoService.getDraws(from, to));
+	}
+
+	@GetMapping("/draws/{round}")
+	public ResponseEntity<ItemApiResponse<WinNumberResponse>> getDraw(@PathVariable int round) {
+		return ResponseEntity.ok(lottoService.getDraw(round));
+	}
+
+	@GetMapping("/pairs")
+	public ResponseEntity<ListApiResponse<PairResponse>> getPairs(
+		@RequestParam(defaultValue = "TICKET") PairSource source, @RequestParam(defaultValue = "10") int limit) {
+		return ResponseEntity.ok(lottoService.getPairs(source, limit));
+	}
+
+	@GetMapping("/pairs/{number}")
+	public ResponseEntity<ListApiResponse<PairResponse>> getCompanions(@PathVariable int number,
+		@RequestParam(defaultValue = "TICKET") PairSource source, @RequestParam(defaultValue = "10") int limit) {
+		return ResponseEntity.ok(lottoService.getCompanions(source, number, limit));
+	}
+
 	@GetMapping("/yearMonth")
 	public ResponseEntity<ItemApiResponse<LottoResponse>> getTopNumberForMonth(@RequestBody YearMonthRequest request) {
 		return ResponseEntity.ok(lottoService.getTopNumberForMonth(request));
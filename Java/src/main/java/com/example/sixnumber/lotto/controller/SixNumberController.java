@@ -1,16 +1,25 @@
 package com.example.sixnumber.lotto.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.sixnumber.global.dto.ListApiResponse;
+import com.example.sixnumber.global.scurity.UserPrincipal;
 import com.example.sixnumber.lotto.dto.BuyNumberRequest;
+import com.example.sixnumber.lotto.dto.ConstrainedNumberRequest;
+import com.example.sixnumber.lotto.dto.PopularityResponse;
 import com.example.sixnumber.lotto.dto.StatisticalNumberRequest;
+import com.example.sixnumber.lotto.dto.TicketResultResponse;
+import com.example.sixnumber.lotto.dto.WeightedNumberRequest;
 import com.example.sixnumber.lotto.service.SixNumberService;
-import com.example.sixnumber.user.entity.User;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,12 +31,33 @@ public class SixNumberController {
 	private final SixNumberService sixNumberService;
 
 	@PostMapping("")
-	public ResponseEntity<?> buyNumbers(@RequestBody BuyNumberRequest buyNumberRequest, @AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(sixNumberService.buyNumber(buyNumberRequest, user));
+	public ResponseEntity<?> buyNumbers(@RequestBody BuyNumberRequest buyNumberRequest, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(sixNumberService.buyNumber(buyNumberRequest, user.getId()));
+	}
+
+	@PostMapping("/weighted")
+	public ResponseEntity<?> weightedNumber(@RequestBody WeightedNumberRequest request, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(sixNumberService.weightedNumber(request, user.getId()));
+	}
+
+	@PostMapping("/constrained")
+	public ResponseEntity<?> constrainedNumber(@RequestBody ConstrainedNumberRequest request, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(sixNumberService.constrainedNumber(request, user.getId()));
+	}
+
+	@GetMapping("/popularity")
+	public ResponseEntity<ListApiResponse<PopularityResponse>> getPopularity(@RequestParam List<String> numbers) {
+		return ResponseEntity.ok(sixNumberService.getPopularity(numbers));
+	}
+
+	@GetMapping("/results")
+	public ResponseEntity<ListApiResponse<TicketResultResponse>> getMyTickets(
+		@RequestParam(defaultValue = "5") int draws, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(sixNumberService.getMyTickets(user.getId(), draws));
 	}
 
 	@PostMapping("/Repetition")
-	public ResponseEntity<?> statisticalNumber(@RequestBody StatisticalNumberRequest BuyRepetitionNumberRequest, @AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(sixNumberService.statisticalNumber(BuyRepetitionNumberRequest, user));
+	public ResponseEntity<?> statisticalNumber(@RequestBody StatisticalNumberRequest BuyRepetitionNumberRequest, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(sixNumberService.statisticalNumber(BuyRepetitionNumberRequest, user.getId()));
 	}
 }
@@ -0,0 +1,20 @@
+package com.example.sixnumber.lotto.dto;
+
+import com.example.sixnumber.lotto.type.BacktestStrategy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BacktestRequest {
+	private BacktestStrategy strategy;
+	// 만들어 볼 번호 수, 번호마다 기록된 모든 회차와 비교함
+	private int tickets;
+	// STATISTICAL 에서만 사용
+	private Integer repetition;
+}
@@ -0,0 +1,30 @@
+package com.example.sixnumber.lotto.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.sixnumber.lotto.type.BacktestStrategy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BacktestResponse {
+	private final long id;
+	private final BacktestStrategy strategy;
+	// QUEUED, RUNNING, DONE, FAILED
+	private final String status;
+	private final long tickets;
+	private final long processed;
+	private final int draws;
+	// 인덱스는 일치한 번호 개수 0~6, 번호 하나와 회차 하나를 한 번으로 셈
+	private final List<Long> matchCounts;
+	// 인덱스 1~5 는 등수, 0 은 낙첨
+	private final List<Long> rankCounts;
+	// rankCounts 를 (번호 수 * 회차 수) 로 나눈 비율
+	private final List<Double> rankRates;
+	private final LocalDateTime requestedAt;
+	private final long elapsedMillis;
+	private final String error;
+}
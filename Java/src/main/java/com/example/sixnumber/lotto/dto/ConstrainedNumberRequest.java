@@ -0,0 +1,28 @@
+package com.example.sixnumber.lotto.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// value 를 제외한 조건은 모두 생략할 수 있음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConstrainedNumberRequest {
+	private int value;
+	// 반드시 포함할 번호, 제외할 번호
+	private List<Integer> include;
+	private List<Integer> exclude;
+	// 번호 6개의 합 범위
+	private Integer minSum;
+	private Integer maxSum;
+	// 홀수 개수 범위
+	private Integer minOdd;
+	private Integer maxOdd;
+	// 연속된 번호가 이어질 수 있는 최대 길이, 1 이면 연속 번호 없음
+	private Integer maxConsecutive;
+}
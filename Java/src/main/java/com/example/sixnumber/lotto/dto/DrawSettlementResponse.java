@@ -0,0 +1,35 @@
+package com.example.sixnumber.lotto.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.example.sixnumber.lotto.entity.DrawSettlement;
+
+import lombok.Getter;
+
+@Getter
+public class DrawSettlementResponse {
+	private final int round;
+	private final LocalDate drawDate;
+	private final long tickets;
+	private final long first;
+	private final long second;
+	private final long third;
+	private final long fourth;
+	private final long fifth;
+	private final long elapsedMillis;
+	private final LocalDateTime settledAt;
+
+	public DrawSettlementResponse(DrawSettlement settlement) {
+		this.round = settlement.getRound();
+		this.drawDate = settlement.getDrawDate();
+		this.tickets = settlement.getTickets();
+		this.first = settlement.getFirst();
+		this.second = settlement.getSecond();
+		this.third = settlement.getThird();
+		this.fourth = settlement.getFourth();
+		this.fifth = settlement.getFifth();
+		this.elapsedMillis = settlement.getElapsedMillis();
+		this.settledAt = settlement.getSettledAt();
+	}
+}
@@ -0,0 +1,13 @@
+package com.example.sixnumber.lotto.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PairResponse {
+	private final int first;
+	private final int second;
+	// 두 번호가 한 조합에 같이 나온 횟수
+	private final long count;
+}
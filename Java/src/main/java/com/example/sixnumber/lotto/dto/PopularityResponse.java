@@ -0,0 +1,12 @@
+package com.example.sixnumber.lotto.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PopularityResponse {
+	private final String numbers;
+	// 같은 조합으로 구매된 번호 수
+	private final int holders;
+}
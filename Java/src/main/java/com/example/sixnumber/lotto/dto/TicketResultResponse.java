@@ -0,0 +1,20 @@
+package com.example.sixnumber.lotto.dto;
+
+import com.example.sixnumber.lotto.entity.TicketResult;
+
+import lombok.Getter;
+
+@Getter
+public class TicketResultResponse {
+	private final int round;
+	private final String numbers;
+	private final int matchCount;
+	private final int rank;
+
+	public TicketResultResponse(TicketResult result) {
+		this.round = result.getRound();
+		this.numbers = result.getNumbers();
+		this.matchCount = result.getMatchCount();
+		this.rank = result.getRank();
+	}
+}
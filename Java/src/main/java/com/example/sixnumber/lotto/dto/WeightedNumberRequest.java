@@ -0,0 +1,17 @@
+package com.example.sixnumber.lotto.dto;
+
+import com.example.sixnumber.lotto.type.WeightSource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeightedNumberRequest {
+	private int value;
+	private WeightSource source;
+}
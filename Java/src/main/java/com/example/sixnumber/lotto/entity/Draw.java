@@ -0,0 +1,49 @@
+package com.example.sixnumber.lotto.entity;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 전체 회차의 당첨 번호 기록, Redis 의 WNL 은 이 중 최근 회차만 담는 캐시
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_draw_date", columnList = "drawDate"))
+public class Draw {
+
+	public static final String TABLE = "draw";
+
+	@Id
+	@Column(name = "drawRound")
+	private Integer round;
+	@Column(name = "drawDate", nullable = false)
+	private LocalDate drawDate;
+	@Column(name = "prize", nullable = false)
+	private Long prize;
+	@Column(name = "winner", nullable = false)
+	private int winner;
+	// 당첨 번호 6개 뒤에 보너스 번호가 붙은 "1 2 3 4 5 6 7" 형태
+	@Column(name = "numbers", nullable = false)
+	private String numbers;
+
+	public Draw(int round, LocalDate drawDate, Long prize, int winner, String numbers) {
+		this.round = round;
+		this.drawDate = drawDate;
+		this.prize = prize;
+		this.winner = winner;
+		this.numbers = numbers;
+	}
+
+	// WNL 에 저장하는 "회차,날짜,당첨금,당첨자 수,번호" 형태
+	public String toRecord() {
+		return round + "," + drawDate + "," + prize + "," + winner + "," + numbers;
+	}
+}
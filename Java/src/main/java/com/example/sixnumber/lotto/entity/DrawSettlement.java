@@ -0,0 +1,60 @@
+package com.example.sixnumber.lotto.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회차별 정산 결과, 같은 회차를 다시 정산하면 덮어씀
+// generation 은 이 정산이 쓴 TicketResult 묶음을 가리키며, 조회는 이 값과 같은 결과만 읽음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class DrawSettlement {
+
+	@Id
+	@Column(name = "drawRound")
+	private Integer round;
+	@Column(name = "drawDate", nullable = false)
+	private LocalDate drawDate;
+	@Column(name = "tickets", nullable = false)
+	private long tickets;
+	@Column(name = "rank1", nullable = false)
+	private long first;
+	@Column(name = "rank2", nullable = false)
+	private long second;
+	@Column(name = "rank3", nullable = false)
+	private long third;
+	@Column(name = "rank4", nullable = false)
+	private long fourth;
+	@Column(name = "rank5", nullable = false)
+	private long fifth;
+	@Column(name = "elapsedMillis", nullable = false)
+	private long elapsedMillis;
+	@Column(name = "settledAt", nullable = false)
+	private LocalDateTime settledAt;
+	@Column(name = "generation", nullable = false)
+	private long generation;
+
+	// rankCounts 는 1등부터 5등까지 인덱스 1~5 를 사용함
+	public DrawSettlement(int round, LocalDate drawDate, long tickets, long[] rankCounts, long elapsedMillis,
+		long generation) {
+		this.round = round;
+		this.drawDate = drawDate;
+		this.tickets = tickets;
+		this.first = rankCounts[1];
+		this.second = rankCounts[2];
+		this.third = rankCounts[3];
+		this.fourth = rankCounts[4];
+		this.fifth = rankCounts[5];
+		this.elapsedMillis = elapsedMillis;
+		this.settledAt = LocalDateTime.now();
+		this.generation = generation;
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.sixnumber.lotto.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회차별로 당첨된 번호가 하나라도 있는 유저의 등수별 개수, DrawSettlementService 가 JDBC batch 로 저장함
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_draw_winner_round_user", columnList = "drawRound, userId"),
+	@Index(name = "idx_draw_winner_user_round", columnList = "userId, drawRound")
+})
+public class DrawWinner {
+
+	public static final String TABLE = "draw_winner";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+	@Column(name = "drawRound", nullable = false)
+	private int round;
+	@Column(name = "userId", nullable = false)
+	private Long userId;
+	@Column(name = "rank1", nullable = false)
+	private int first;
+	@Column(name = "rank2", nullable = false)
+	private int second;
+	@Column(name = "rank3", nullable = false)
+	private int third;
+	@Column(name = "rank4", nullable = false)
+	private int fourth;
+	@Column(name = "rank5", nullable = false)
+	private int fifth;
+}
@@ -10,7 +10,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OrderColumn;
+import javax.persistence.Table;
 
 import com.example.sixnumber.global.util.TimeStamped;
 
@@ -20,7 +22,12 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 회차 정산은 구매일 범위로, 유저별 조회는 유저와 구매일로 번호를 읽음
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_six_number_buy_date", columnList = "buyDate"),
+	@Index(name = "idx_six_number_user_buy_date", columnList = "userId, buyDate")
+})
 public class SixNumber extends TimeStamped {
 
 	@Id
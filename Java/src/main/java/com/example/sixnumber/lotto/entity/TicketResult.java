@@ -0,0 +1,50 @@
+package com.example.sixnumber.lotto.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 번호 한 줄의 회차 채점 결과, 정산 때 DrawSettlementService 가 JDBC batch 로 저장함
+// 조회는 유저와 회차 범위만으로 끝나도록 번호 문자열도 같이 저장함
+// 정산마다 새 generation 으로 쓰고, DrawSettlement 가 가리키는 generation 의 결과만 유효함
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_ticket_result_user_round", columnList = "userId, drawRound"),
+	@Index(name = "idx_ticket_result_round", columnList = "drawRound, generation")
+})
+public class TicketResult {
+
+	public static final String TABLE = "ticket_result";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+	@Column(name = "drawRound", nullable = false)
+	private int round;
+	@Column(name = "userId", nullable = false)
+	private Long userId;
+	@Column(name = "sixNumberId", nullable = false)
+	private Long sixNumberId;
+	@Column(name = "numberIndex", nullable = false)
+	private int numberIndex;
+	@Column(name = "numbers", nullable = false)
+	private String numbers;
+	@Column(name = "matchCount", nullable = false)
+	private int matchCount;
+	// 1~5 등, 낙첨은 0
+	@Column(name = "ticketRank", nullable = false)
+	private int rank;
+	@Column(name = "generation", nullable = false)
+	private long generation;
+}
@@ -0,0 +1,18 @@
+package com.example.sixnumber.lotto.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.example.sixnumber.lotto.entity.Draw;
+
+public interface DrawRepository extends JpaRepository<Draw, Integer> {
+	List<Draw> findByDrawDateBetweenOrderByRoundAsc(LocalDate from, LocalDate to);
+	List<Draw> findByOrderByRoundDesc(Pageable pageable);
+
+	@Query("SELECT d.numbers FROM Draw d")
+	List<String> findAllNumbers();
+}
@@ -0,0 +1,8 @@
+package com.example.sixnumber.lotto.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.sixnumber.lotto.entity.DrawSettlement;
+
+public interface DrawSettlementRepository extends JpaRepository<DrawSettlement, Integer> {
+}
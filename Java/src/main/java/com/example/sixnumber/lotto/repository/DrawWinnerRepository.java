@@ -0,0 +1,13 @@
+package com.example.sixnumber.lotto.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.sixnumber.lotto.entity.DrawWinner;
+
+public interface DrawWinnerRepository extends JpaRepository<DrawWinner, Long> {
+	Optional<DrawWinner> findByRoundAndUserId(int round, Long userId);
+	List<DrawWinner> findTop10ByUserIdOrderByRoundDesc(Long userId);
+}
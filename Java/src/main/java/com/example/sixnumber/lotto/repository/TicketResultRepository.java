@@ -0,0 +1,18 @@
+package com.example.sixnumber.lotto.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.sixnumber.lotto.entity.TicketResult;
+
+public interface TicketResultRepository extends JpaRepository<TicketResult, Long> {
+
+	// 정산이 끝난 회차의 현재 generation 결과만 읽음, 진행 중이거나 실패한 정산이 쓴 결과는 보이지 않음
+	@Query("SELECT t FROM TicketResult t, DrawSettlement s"
+		+ " WHERE t.userId = :userId AND t.round > :afterRound AND s.round = t.round AND s.generation = t.generation"
+		+ " ORDER BY t.round DESC, t.sixNumberId, t.numberIndex")
+	List<TicketResult> findRecent(@Param("userId") Long userId, @Param("afterRound") int afterRound);
+}
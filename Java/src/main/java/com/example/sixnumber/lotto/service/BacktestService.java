@@ -0,0 +1,307 @@
+package com.example.sixnumber.lotto.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.scheduler.JobMonitor;
+import com.example.sixnumber.global.util.AliasTable;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.dto.BacktestRequest;
+import com.example.sixnumber.lotto.dto.BacktestResponse;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.lotto.type.BacktestStrategy;
+import com.example.sixnumber.lotto.type.WeightSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 번호 생성 방식별로 번호를 대량으로 만들어서 기록된 모든 회차와 비교해 보는 백테스트
+// 요청은 작업을 등록만 하고, 계산은 백그라운드에서 번호를 나눠 여러 스레드가 처리함
+// 번호는 NumberMask 의 long 으로만 다뤄서 번호마다 객체를 만들지 않음
+@Slf4j
+@Service
+public class BacktestService {
+
+	public static final String BACKTEST_JOB = "backtest";
+	private static final int MAX_TICKETS = 10_000_000;
+	private static final int DEFAULT_REPETITION = 100;
+	private static final int MAX_REPETITION = 1000;
+	// 결과는 메모리에 최근 것만 남김
+	private static final int MAX_REPORTS = 20;
+	private static final int PROGRESS_STEP = 4096;
+
+	private final DrawRepository drawRepository;
+	private final WeightedNumberGenerator weightedNumberGenerator;
+	private final JobMonitor jobMonitor;
+	private final int workers;
+	private final ExecutorService coordinator;
+	private final ExecutorService simulators;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Map<Long, Backtest> backtests = new LinkedHashMap<>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Backtest> eldest) {
+			return size() > MAX_REPORTS;
+		}
+	};
+
+	public BacktestService(DrawRepository drawRepository, WeightedNumberGenerator weightedNumberGenerator,
+		JobMonitor jobMonitor, @Value("${backtest.workers:0}") int workers) {
+		this.drawRepository = drawRepository;
+		this.weightedNumberGenerator = weightedNumberGenerator;
+		this.jobMonitor = jobMonitor;
+		this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+		this.coordinator = Executors.newSingleThreadExecutor(named("backtest-"));
+		this.simulators = Executors.newFixedThreadPool(this.workers, named("backtest-worker-"));
+	}
+
+	// 한 번에 하나씩 실행되고, 나머지는 등록된 순서대로 기다림
+	public BacktestResponse start(BacktestRequest request) {
+		if (request.getStrategy() == null) throw new InvalidInputException();
+		if (request.getTickets() < 1 || request.getTickets() > MAX_TICKETS) throw new InvalidInputException();
+		int repetition = request.getRepetition() == null ? DEFAULT_REPETITION : request.getRepetition();
+		if (repetition < 1 || repetition > MAX_REPETITION) throw new InvalidInputException();
+
+		Backtest backtest = new Backtest(sequence.incrementAndGet(), request.getStrategy(), request.getTickets(), repetition);
+		synchronized (backtests) {
+			backtests.put(backtest.id, backtest);
+		}
+		coordinator.execute(() -> {
+			try {
+				jobMonitor.run(BACKTEST_JOB, () -> run(backtest));
+			} catch (RuntimeException e) {
+				backtest.fail(e);
+			}
+		});
+		return backtest.toResponse();
+	}
+
+	public BacktestResponse get(long id) {
+		Backtest backtest;
+		synchronized (backtests) {
+			backtest = backtests.get(id);
+		}
+		if (backtest == null) throw new IllegalArgumentException("해당 백테스트가 없습니다");
+		return backtest.toResponse();
+	}
+
+	public List<BacktestResponse> getAll() {
+		List<Backtest> snapshot;
+		synchronized (backtests) {
+			snapshot = new ArrayList<>(backtests.values());
+		}
+		return snapshot.stream().map(Backtest::toResponse).toList();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		coordinator.shutdownNow();
+		simulators.shutdownNow();
+	}
+
+	private int run(Backtest backtest) {
+		long start = System.nanoTime();
+		List<String> numbers = drawRepository.findAllNumbers();
+		if (numbers.isEmpty()) throw new IllegalStateException("기록된 회차가 없습니다");
+
+		long[] wins = new long[numbers.size()];
+		long[] bonuses = new long[numbers.size()];
+		for (int i = 0; i < numbers.size(); i++) {
+			long[] draw = NumberMask.draw(numbers.get(i));
+			wins[i] = draw[0];
+			bonuses[i] = draw[1];
+		}
+		backtest.running(wins.length);
+
+		TicketSource source = source(backtest.strategy, backtest.repetition);
+		int chunks = workers * 4;
+		SplittableRandom root = new SplittableRandom();
+		List<Future<Tally>> futures = new ArrayList<>(chunks);
+		for (int i = 0; i < chunks; i++) {
+			long count = backtest.tickets / chunks + (i < backtest.tickets % chunks ? 1 : 0);
+			if (count == 0) continue;
+			SplittableRandom random = root.split();
+			futures.add(simulators.submit(() -> simulate(backtest, source, random, count, wins, bonuses)));
+		}
+
+		Tally total = new Tally();
+		for (Future<Tally> future : futures) {
+			total.merge(join(future));
+		}
+		backtest.done(total, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		log.info(backtest.id + "번 백테스트 완료 (" + backtest.strategy + ", " + backtest.tickets + "개, " + wins.length + "회차)");
+		return (int) backtest.tickets;
+	}
+
+	private static Tally simulate(Backtest backtest, TicketSource source, SplittableRandom random, long count, long[] wins,
+		long[] bonuses) {
+		Tally tally = new Tally();
+		int[] scratch = new int[NumberMask.MAX_NUMBER + 1];
+		long pending = 0;
+		for (long t = 0; t < count; t++) {
+			long ticket = source.next(random, scratch);
+			for (int d = 0; d < wins.length; d++) {
+				tally.matches[NumberMask.matches(ticket, wins[d])]++;
+				tally.ranks[NumberMask.rank(ticket, wins[d], bonuses[d])]++;
+			}
+			if (++pending == PROGRESS_STEP) {
+				backtest.processed.addAndGet(pending);
+				pending = 0;
+			}
+		}
+		backtest.processed.addAndGet(pending);
+		return tally;
+	}
+
+	// 가중치 테이블은 시작할 때의 것을 끝까지 사용함
+	private TicketSource source(BacktestStrategy strategy, int repetition) {
+		return switch (strategy) {
+			case RANDOM -> (random, scratch) -> randomTicket(random);
+			case STATISTICAL -> (random, scratch) -> statisticalTicket(random, scratch, repetition);
+			case WEIGHTED_HISTORY -> weighted(weightedNumberGenerator.table(WeightSource.HISTORY));
+			case WEIGHTED_MAIN -> weighted(weightedNumberGenerator.table(WeightSource.MAIN));
+		};
+	}
+
+	private static TicketSource weighted(AliasTable table) {
+		return (random, scratch) -> WeightedNumberGenerator.sampleMask(table, random);
+	}
+
+	private static long randomTicket(SplittableRandom random) {
+		long mask = 0;
+		while (Long.bitCount(mask) < 6) {
+			mask |= 1L << (random.nextInt(NumberMask.MAX_NUMBER) + 1);
+		}
+		return mask;
+	}
+
+	// statisticalNumber 와 같이 repetition 번 뽑은 번호 중 많이 나온 6개, 같으면 작은 번호 우선
+	private static long statisticalTicket(SplittableRandom random, int[] counts, int repetition) {
+		for (int r = 0; r < repetition; r++) {
+			for (long rest = randomTicket(random); rest != 0; rest &= rest - 1) {
+				counts[Long.numberOfTrailingZeros(rest)]++;
+			}
+		}
+
+		long mask = 0;
+		for (int pick = 0; pick < 6; pick++) {
+			int best = 1;
+			for (int number = 2; number <= NumberMask.MAX_NUMBER; number++) {
+				if (counts[number] > counts[best]) best = number;
+			}
+			mask |= 1L << best;
+			counts[best] = -1;
+		}
+		Arrays.fill(counts, 0);
+		return mask;
+	}
+
+	private static Tally join(Future<Tally> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("백테스트가 중단되었습니다", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("백테스트 중 오류가 발생했습니다", e.getCause());
+		}
+	}
+
+	private static ThreadFactory named(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@FunctionalInterface
+	private interface TicketSource {
+		// scratch 는 스레드마다 하나씩 주는 작업 공간
+		long next(SplittableRandom random, int[] scratch);
+	}
+
+	private static class Tally {
+		private final long[] matches = new long[7];
+		private final long[] ranks = new long[6];
+
+		private void merge(Tally other) {
+			for (int i = 0; i < matches.length; i++) matches[i] += other.matches[i];
+			for (int i = 0; i < ranks.length; i++) ranks[i] += other.ranks[i];
+		}
+	}
+
+	private static class Backtest {
+		private final long id;
+		private final BacktestStrategy strategy;
+		private final long tickets;
+		private final int repetition;
+		private final LocalDateTime requestedAt = LocalDateTime.now();
+		private final AtomicLong processed = new AtomicLong();
+		private volatile String status = "QUEUED";
+		private volatile int draws;
+		private volatile Tally result;
+		private volatile long elapsedMillis;
+		private volatile String error;
+
+		private Backtest(long id, BacktestStrategy strategy, long tickets, int repetition) {
+			this.id = id;
+			this.strategy = strategy;
+			this.tickets = tickets;
+			this.repetition = repetition;
+		}
+
+		private void running(int draws) {
+			this.draws = draws;
+			this.status = "RUNNING";
+		}
+
+		private void done(Tally result, long elapsedMillis) {
+			this.result = result;
+			this.elapsedMillis = elapsedMillis;
+			this.status = "DONE";
+		}
+
+		private void fail(RuntimeException e) {
+			this.error = e.getMessage();
+			this.status = "FAILED";
+		}
+
+		private BacktestResponse toResponse() {
+			Tally tally = result;
+			List<Long> matchCounts = tally == null ? List.of() : boxed(tally.matches);
+			List<Long> rankCounts = tally == null ? List.of() : boxed(tally.ranks);
+			List<Double> rankRates = new ArrayList<>();
+			if (tally != null) {
+				double pairs = (double) tickets * draws;
+				for (long count : tally.ranks) rankRates.add(count / pairs);
+			}
+			return new BacktestResponse(id, strategy, status, tickets, processed.get(), draws, matchCounts, rankCounts,
+				rankRates, requestedAt, elapsedMillis, error);
+		}
+
+		private static List<Long> boxed(long[] values) {
+			List<Long> list = new ArrayList<>(values.length);
+			for (long value : values) list.add(value);
+			return list;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.sixnumber.lotto.service;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.dto.ConstrainedNumberRequest;
+
+// 조건을 만족하는 조합 중에서 균등하게 하나를 뽑음, 뽑고 나서 버리는 재시도가 없어서 조건이 까다로워도 시간이 일정함
+// 1 번부터 45 번까지 차례로 넣을지 말지 정한다고 보고, (번호, 고른 개수, 합, 홀수 개수, 이어진 길이) 상태에서
+// 끝까지 갔을 때 조건을 만족하는 경우의 수를 뒤에서부터 세어 둔 뒤, 앞에서부터 그 비율대로 넣을지 말지 정함
+public class ConstrainedNumberGenerator {
+
+	private static final int PICK = 6;
+	private static final int MAX_SUM = 255;
+
+	private final long includeMask;
+	private final long excludeMask;
+	private final int minSum;
+	private final int minOdd;
+	private final int maxOdd;
+	private final int maxRun;
+	// 조건이 없는 값은 상태에서 빼서 표 크기를 줄임
+	private final boolean oddTracked;
+	private final boolean runTracked;
+	private final int sums;
+	private final int odds;
+	private final int runs;
+	// 경우의 수는 최대 C(45, 6) = 8,145,060 이라 int 로 충분함
+	private final int[] counts;
+
+	private ConstrainedNumberGenerator(long includeMask, long excludeMask, int minSum, int maxSum, int minOdd, int maxOdd,
+		int maxRun) {
+		this.includeMask = includeMask;
+		this.excludeMask = excludeMask;
+		this.minSum = minSum;
+		this.minOdd = minOdd;
+		this.maxOdd = maxOdd;
+		this.maxRun = maxRun;
+		this.oddTracked = minOdd > 0 || maxOdd < PICK;
+		this.runTracked = maxRun < PICK;
+		this.sums = maxSum + 1;
+		this.odds = oddTracked ? PICK + 1 : 1;
+		this.runs = runTracked ? maxRun + 1 : 1;
+		this.counts = new int[(NumberMask.MAX_NUMBER + 2) * (PICK + 1) * sums * odds * runs];
+		count();
+	}
+
+	public static ConstrainedNumberGenerator of(ConstrainedNumberRequest request) {
+		long include = mask(request.getInclude());
+		long exclude = mask(request.getExclude());
+		int minSum = valueOrDefault(request.getMinSum(), 0);
+		int maxSum = Math.min(MAX_SUM, valueOrDefault(request.getMaxSum(), MAX_SUM));
+		int minOdd = valueOrDefault(request.getMinOdd(), 0);
+		int maxOdd = valueOrDefault(request.getMaxOdd(), PICK);
+		int maxRun = valueOrDefault(request.getMaxConsecutive(), PICK);
+
+		if ((include & exclude) != 0 || Long.bitCount(include) > PICK) throw new InvalidInputException();
+		if (minSum < 0 || minSum > maxSum) throw new InvalidInputException();
+		if (minOdd < 0 || maxOdd > PICK || minOdd > maxOdd) throw new InvalidInputException();
+		if (maxRun < 1 || maxRun > PICK) throw new InvalidInputException();
+		return new ConstrainedNumberGenerator(include, exclude, minSum, maxSum, minOdd, maxOdd, maxRun);
+	}
+
+	// 조건을 만족하는 조합의 수
+	public int total() {
+		return counts[index(1, 0, 0, 0, 0)];
+	}
+
+	public String sample(RandomGenerator random) {
+		if (total() == 0) throw new IllegalArgumentException("조건을 만족하는 번호가 없습니다");
+
+		StringBuilder ticket = new StringBuilder(17);
+		int picked = 0, sum = 0, odd = 0, run = 0;
+		for (int number = 1; number <= NumberMask.MAX_NUMBER && picked < PICK; number++) {
+			int remaining = counts[index(number, picked, sum, odd, run)];
+			int take = takeCount(number, picked, sum, odd, run);
+			if (random.nextInt(remaining) < take) {
+				if (ticket.length() > 0) ticket.append(' ');
+				ticket.append(number);
+				picked++;
+				sum += number;
+				odd = nextOdd(odd, number);
+				run = nextRun(run);
+			} else {
+				run = 0;
+			}
+		}
+		return ticket.toString();
+	}
+
+	private void count() {
+		int end = NumberMask.MAX_NUMBER + 1;
+		for (int sum = minSum; sum < sums; sum++) {
+			for (int odd = oddTracked ? minOdd : 0; odd <= (oddTracked ? maxOdd : 0); odd++) {
+				for (int run = 0; run < runs; run++) {
+					counts[index(end, PICK, sum, odd, run)] = 1;
+				}
+			}
+		}
+
+		for (int number = NumberMask.MAX_NUMBER; number >= 1; number--) {
+			boolean included = (includeMask & NumberMask.bit(number)) != 0;
+			for (int picked = 0; picked <= PICK; picked++) {
+				for (int sum = 0; sum < sums; sum++) {
+					// 홀수 개수와 이어진 길이는 고른 개수보다 클 수 없음
+					for (int odd = 0; odd < Math.min(odds, picked + 1); odd++) {
+						for (int run = 0; run < Math.min(runs, picked + 1); run++) {
+							int skip = included ? 0 : counts[index(number + 1, picked, sum, odd, 0)];
+							counts[index(number, picked, sum, odd, run)] = skip + takeCount(number, picked, sum, odd, run);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	// number 를 넣었을 때 끝까지 조건을 만족하는 경우의 수
+	private int takeCount(int number, int picked, int sum, int odd, int run) {
+		if ((excludeMask & NumberMask.bit(number)) != 0) return 0;
+		if (picked == PICK || sum + number >= sums) return 0;
+		if (runTracked && run + 1 > maxRun) return 0;
+		return counts[index(number + 1, picked + 1, sum + number, nextOdd(odd, number), nextRun(run))];
+	}
+
+	private int nextOdd(int odd, int number) {
+		return oddTracked ? odd + (number & 1) : 0;
+	}
+
+	private int nextRun(int run) {
+		return runTracked ? run + 1 : 0;
+	}
+
+	private int index(int number, int picked, int sum, int odd, int run) {
+		return (((number * (PICK + 1) + picked) * sums + sum) * odds + odd) * runs + run;
+	}
+
+	private static long mask(List<Integer> numbers) {
+		long mask = 0;
+		if (numbers == null) return mask;
+		for (Integer number : numbers) {
+			if (number == null) throw new InvalidInputException();
+			mask |= NumberMask.bit(number);
+		}
+		return mask;
+	}
+
+	private static int valueOrDefault(Integer value, int defaultValue) {
+		return value == null ? defaultValue : value;
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.sixnumber.lotto.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.entity.Draw;
+import com.example.sixnumber.user.dto.WinNumberRequest;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+// 회차 파일을 한 줄(JSON 은 객체 하나)씩 읽어서 넘겨줌, 파일 전체를 메모리에 올리지 않음
+// CSV 는 WNL 과 같은 "회차,날짜,당첨금,당첨자 수,번호" 형태, JSON 은 WinNumberRequest 배열
+public final class DrawFileReader {
+
+	private static final ObjectReader JSON_READER = new ObjectMapper().readerFor(WinNumberRequest.class);
+
+	private DrawFileReader() {
+	}
+
+	public static void readCsv(InputStream in, Consumer<Draw> consumer) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			line = line.strip();
+			// 빈 줄과 머리글은 건너뜀
+			if (line.isEmpty() || !Character.isDigit(line.charAt(0))) continue;
+
+			String[] values = line.split(",", 5);
+			if (values.length != 5) throw invalid(lineNumber);
+			Draw draw;
+			try {
+				draw = toDraw(Integer.parseInt(values[0].strip()), values[1], Long.parseLong(values[2].strip()),
+					Integer.parseInt(values[3].strip()), values[4]);
+			} catch (RuntimeException e) {
+				throw invalid(lineNumber);
+			}
+			consumer.accept(draw);
+		}
+	}
+
+	public static void readJson(InputStream in, Consumer<Draw> consumer) throws IOException {
+		try (MappingIterator<WinNumberRequest> iterator = JSON_READER.readValues(in)) {
+			int index = 0;
+			while (iterator.hasNextValue()) {
+				index++;
+				WinNumberRequest request = iterator.nextValue();
+				Draw draw;
+				try {
+					draw = toDraw(request);
+				} catch (RuntimeException e) {
+					throw invalid(index);
+				}
+				consumer.accept(draw);
+			}
+		}
+	}
+
+	public static Draw toDraw(WinNumberRequest request) {
+		return toDraw(request.getTime(), request.getDate(), request.getPrize(), request.getWinner(), request.getNumbers());
+	}
+
+	private static Draw toDraw(int round, String date, Long prize, int winner, String numbers) {
+		if (round < 1 || prize == null || prize < 0 || winner < 0 || date == null || numbers == null) {
+			throw new InvalidInputException();
+		}
+		NumberMask.draw(numbers);
+		try {
+			return new Draw(round, LocalDate.parse(date.strip()), prize, winner, String.join(" ", numbers.strip().split(" +")));
+		} catch (DateTimeParseException e) {
+			throw new InvalidInputException();
+		}
+	}
+
+	private static IllegalArgumentException invalid(int index) {
+		return new IllegalArgumentException(index + "번째 회차 정보가 잘못되었습니다");
+	}
+}
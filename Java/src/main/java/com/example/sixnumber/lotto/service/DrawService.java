@@ -0,0 +1,155 @@
+package com.example.sixnumber.lotto.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.WinNumberCache;
+import com.example.sixnumber.lotto.entity.Draw;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.user.dto.WinNumberRequest;
+import com.example.sixnumber.user.dto.WinNumberResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 당첨 번호 기록은 DB 의 Draw 가 원본이고, Redis 의 WNL 은 최근 RECENT_SIZE 회차만 담는 캐시
+@Slf4j
+@Service
+@AllArgsConstructor
+public class DrawService {
+
+	public static final int RECENT_SIZE = 5;
+	private static final int IMPORT_BATCH_SIZE = 500;
+	private static final String UPSERT = "MERGE INTO " + Draw.TABLE + " d"
+		+ " USING (SELECT ? AS draw_round, ? AS draw_date, ? AS prize, ? AS winner, ? AS numbers FROM dual) s"
+		+ " ON (d.draw_round = s.draw_round)"
+		+ " WHEN MATCHED THEN UPDATE SET d.draw_date = s.draw_date, d.prize = s.prize, d.winner = s.winner, d.numbers = s.numbers"
+		+ " WHEN NOT MATCHED THEN INSERT (draw_round, draw_date, prize, winner, numbers)"
+		+ " VALUES (s.draw_round, s.draw_date, s.prize, s.winner, s.numbers)";
+
+	private final DrawRepository drawRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final WinNumberCache winNumberCache;
+	private final PairStatistics pairStatistics;
+
+	// 호출한 트랜잭션이 커밋된 뒤에 WNL 과 번호 쌍 횟수를 반영함
+	// 이미 있는 회차를 고치는 경우에는 쌍을 더하면 두 번 세므로 Draw 전체로 다시 만듦
+	public void record(WinNumberRequest request) {
+		Draw draw = DrawFileReader.toDraw(request);
+		boolean added = !drawRepository.existsById(draw.getRound());
+		drawRepository.save(draw);
+		Runnable task = () -> {
+			refreshRecent();
+			if (added) {
+				pairStatistics.addDraw(draw.getNumbers());
+			} else {
+				pairStatistics.rebuildDraws();
+			}
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	// 파일을 읽으면서 IMPORT_BATCH_SIZE 개씩 upsert 함, 묶음마다 커밋하므로 중간에 실패하면 앞 묶음까지는 남음
+	public int importFile(MultipartFile file) {
+		String name = file.getOriginalFilename();
+		boolean json = name != null && name.toLowerCase().endsWith(".json");
+		List<Draw> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+		int[] count = {0};
+
+		try (InputStream in = file.getInputStream()) {
+			if (json) {
+				DrawFileReader.readJson(in, draw -> add(batch, draw, count));
+			} else {
+				DrawFileReader.readCsv(in, draw -> add(batch, draw, count));
+			}
+		} catch (IOException e) {
+			throw new InvalidInputException();
+		}
+		if (!batch.isEmpty()) upsert(batch, count);
+
+		refreshRecent();
+		pairStatistics.rebuildDraws();
+		log.info("회차 파일 가져오기 완료 (" + name + ", " + count[0] + "건)");
+		return count[0];
+	}
+
+	public List<WinNumberResponse> findBetween(LocalDate from, LocalDate to) {
+		if (from.isAfter(to)) throw new InvalidInputException();
+		return drawRepository.findByDrawDateBetweenOrderByRoundAsc(from, to).stream()
+			.map(draw -> new WinNumberResponse(draw.toRecord()))
+			.toList();
+	}
+
+	public WinNumberResponse findByRound(int round) {
+		Draw draw = drawRepository.findById(round)
+			.orElseThrow(() -> new IllegalArgumentException("해당 회차 정보가 없습니다"));
+		return new WinNumberResponse(draw.toRecord());
+	}
+
+	// Redis 가 비워졌어도 서버가 뜰 때 DB 에서 다시 채움
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Long size = redisTemplate.opsForList().size(WinNumberCache.KEY);
+		if (size == null || size == 0) refreshRecent();
+	}
+
+	// 임시 키에 채운 뒤 rename 으로 바꿔서, 다시 만드는 도중에 비어있는 WNL 이 읽히지 않게 함
+	public void refreshRecent() {
+		List<Draw> recent = new ArrayList<>(drawRepository.findByOrderByRoundDesc(PageRequest.of(0, RECENT_SIZE)));
+		if (recent.isEmpty()) return;
+
+		List<String> records = new ArrayList<>(recent.size());
+		for (int i = recent.size() - 1; i >= 0; i--) {
+			records.add(recent.get(i).toRecord());
+		}
+		String temp = WinNumberCache.KEY + ":" + UUID.randomUUID();
+		redisTemplate.opsForList().rightPushAll(temp, records);
+		redisTemplate.rename(temp, WinNumberCache.KEY);
+		winNumberCache.invalidate();
+	}
+
+	private void add(List<Draw> batch, Draw draw, int[] count) {
+		batch.add(draw);
+		if (batch.size() == IMPORT_BATCH_SIZE) upsert(batch, count);
+	}
+
+	private void upsert(List<Draw> batch, int[] count) {
+		List<Object[]> rows = new ArrayList<>(batch.size());
+		for (Draw draw : batch) {
+			rows.add(new Object[] {draw.getRound(), Date.valueOf(draw.getDrawDate()), draw.getPrize(), draw.getWinner(),
+				draw.getNumbers()});
+		}
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT, rows));
+		count[0] += batch.size();
+		batch.clear();
+	}
+}
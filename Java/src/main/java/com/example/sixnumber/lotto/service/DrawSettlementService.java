@@ -0,0 +1,327 @@
+package com.example.sixnumber.lotto.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.sixnumber.global.scheduler.JobMonitor;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.entity.DrawSettlement;
+import com.example.sixnumber.lotto.entity.DrawWinner;
+import com.example.sixnumber.lotto.entity.TicketResult;
+import com.example.sixnumber.lotto.repository.DrawSettlementRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 당첨 번호가 등록되면 해당 회차 기간에 구매된 모든 번호를 채점함
+// 엔티티를 만들지 않고 JDBC 커서로 번호 문자열만 읽어서, 묶음 단위로 여러 스레드에 나눠 비트 연산으로 채점함
+// 채점한 묶음은 그 스레드가 바로 번호별 결과(TicketResult)로 저장해서 전체 결과를 메모리에 들고 있지 않음
+// 결과는 정산마다 새 generation 으로 쌓고, 마지막 트랜잭션에서 DrawSettlement 가 그 generation 을 가리키게 바꿈
+// 중간에 실패하면 이전 정산과 그 결과가 그대로 보이고, 남은 결과는 다음 정산이 지움
+@Slf4j
+@Service
+public class DrawSettlementService {
+
+	public static final String SETTLEMENT_JOB = "drawSettlement";
+	// 추첨은 일주일 간격이므로 추첨일 전 7일 동안 구매된 번호가 대상
+	private static final int DRAW_PERIOD_DAYS = 7;
+	private static final int INSERT_BATCH_SIZE = 1000;
+	private static final String TICKET_QUERY = "SELECT s.user_id, s.id, n.number_index, n.number_list FROM six_number s"
+		+ " JOIN six_number_number_list n ON n.six_number_id = s.id"
+		+ " WHERE s.buy_date > ? AND s.buy_date <= ?";
+	private static final String WINNER_INSERT = "INSERT INTO " + DrawWinner.TABLE
+		+ " (draw_round, user_id, rank1, rank2, rank3, rank4, rank5) VALUES (?, ?, ?, ?, ?, ?, ?)";
+	private static final String RESULT_INSERT = "INSERT INTO " + TicketResult.TABLE
+		+ " (draw_round, user_id, six_number_id, number_index, numbers, match_count, ticket_rank, generation)"
+		+ " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final DrawSettlementRepository drawSettlementRepository;
+	private final JobMonitor jobMonitor;
+	private final int batchSize;
+	private final int fetchSize;
+	private final int workers;
+	// 정산은 한 번에 하나씩만 실행하고, 채점은 코어 수와 커넥션 여유분 중 작은 수만큼 나눠서 처리함
+	private final ExecutorService coordinator;
+	private final ExecutorService scorers;
+
+	public DrawSettlementService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		DrawSettlementRepository drawSettlementRepository, JobMonitor jobMonitor,
+		@Value("${draw-settlement.workers:0}") int workers,
+		@Value("${draw-settlement.batch-size:65536}") int batchSize,
+		@Value("${draw-settlement.fetch-size:10000}") int fetchSize,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+		@Value("${draw-settlement.reserved-connections:4}") int reservedConnections) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.drawSettlementRepository = drawSettlementRepository;
+		this.jobMonitor = jobMonitor;
+		this.batchSize = batchSize;
+		this.fetchSize = fetchSize;
+		this.workers = workers(workers > 0 ? workers : Runtime.getRuntime().availableProcessors(), poolSize,
+			reservedConnections);
+		this.coordinator = Executors.newSingleThreadExecutor(named("settlement-"));
+		this.scorers = Executors.newFixedThreadPool(this.workers, named("settlement-worker-"));
+	}
+
+	// 번호는 등록 요청 안에서 바로 검증하고, 채점은 등록이 커밋된 뒤 백그라운드에서 실행함
+	public void settleAfterCommit(int round, String drawDate, String numbers) {
+		long[] draw = NumberMask.draw(numbers);
+		LocalDate date = LocalDate.parse(drawDate);
+		Runnable task = () -> coordinator.execute(() -> {
+			try {
+				jobMonitor.run(SETTLEMENT_JOB, () -> (int) settle(round, date, draw[0], draw[1]).getTickets());
+			} catch (RuntimeException e) {
+				// JobMonitor 가 실패를 기록하므로 여기서는 삼킴
+			}
+		});
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	public DrawSettlement settle(int round, LocalDate drawDate, long win, long bonus) {
+		long start = System.nanoTime();
+		List<Future<Tally>> futures = new ArrayList<>();
+		// 채점이 읽기를 따라오지 못할 때 메모리에 쌓이는 묶음 수를 제한함
+		Semaphore inFlight = new Semaphore(workers * 2);
+		long generation = nextGeneration(round);
+
+		Batch[] current = {new Batch(round, generation, batchSize)};
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(TICKET_QUERY);
+			statement.setFetchSize(fetchSize);
+			statement.setDate(1, Date.valueOf(drawDate.minusDays(DRAW_PERIOD_DAYS)));
+			statement.setDate(2, Date.valueOf(drawDate));
+			return statement;
+		}, (RowCallbackHandler) rs -> {
+			Batch batch = current[0];
+			batch.add(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getString(4));
+			if (batch.isFull()) {
+				futures.add(submit(batch, win, bonus, inFlight));
+				current[0] = new Batch(round, generation, batchSize);
+			}
+		});
+		if (current[0].size > 0) futures.add(submit(current[0], win, bonus, inFlight));
+
+		Tally total = new Tally();
+		for (Future<Tally> future : futures) {
+			total.merge(join(future));
+		}
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		DrawSettlement settlement = new DrawSettlement(round, drawDate, total.tickets, total.rankCounts, elapsedMillis,
+			generation);
+		save(settlement, total.winners);
+		log.info(round + "회차 정산 완료 (번호: " + total.tickets + ", 당첨 유저: " + total.winners.size() + ", " + elapsedMillis + "ms)");
+		return settlement;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		coordinator.shutdown();
+		scorers.shutdown();
+	}
+
+	private Future<Tally> submit(Batch batch, long win, long bonus, Semaphore inFlight) {
+		inFlight.acquireUninterruptibly();
+		try {
+			return scorers.submit(() -> {
+				try {
+					Tally tally = batch.score(win, bonus);
+					batch.saveResults(jdbcTemplate);
+					return tally;
+				} finally {
+					inFlight.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	// 이전 정산보다 항상 큰 값, 정산은 coordinator 에서 하나씩만 실행되므로 겹치지 않음
+	private long nextGeneration(int round) {
+		long previous = drawSettlementRepository.findById(round).map(DrawSettlement::getGeneration).orElse(0L);
+		return Math.max(previous + 1, System.currentTimeMillis());
+	}
+
+	// 같은 회차를 다시 정산해도 결과가 한 벌만 남도록 지우고 다시 넣음
+	// DrawSettlement 를 새 generation 으로 바꾸는 것과 이전, 실패한 정산의 결과를 지우는 것을 한 트랜잭션에서 처리함
+	private void save(DrawSettlement settlement, Map<Long, int[]> winners) {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("DELETE FROM " + DrawWinner.TABLE + " WHERE draw_round = ?", settlement.getRound());
+
+			List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+			for (Map.Entry<Long, int[]> winner : winners.entrySet()) {
+				int[] ranks = winner.getValue();
+				rows.add(new Object[] {settlement.getRound(), winner.getKey(), ranks[1], ranks[2], ranks[3], ranks[4], ranks[5]});
+				if (rows.size() == INSERT_BATCH_SIZE) {
+					jdbcTemplate.batchUpdate(WINNER_INSERT, rows);
+					rows.clear();
+				}
+			}
+			if (!rows.isEmpty()) jdbcTemplate.batchUpdate(WINNER_INSERT, rows);
+
+			drawSettlementRepository.save(settlement);
+			jdbcTemplate.update("DELETE FROM " + TicketResult.TABLE + " WHERE draw_round = ? AND generation <> ?",
+				settlement.getRound(), settlement.getGeneration());
+		});
+	}
+
+	private static Tally join(Future<Tally> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("정산이 중단되었습니다", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("정산 중 오류가 발생했습니다", e.getCause());
+		}
+	}
+
+	// 채점 스레드는 저장할 때마다 커넥션을 하나씩 쓰고, 읽기 커서도 정산 내내 하나를 잡고 있음
+	// 웹 요청용으로 reserved 만큼은 남기고 나머지에서 커서 몫을 뺀 수를 넘지 않게 함, 최소 1
+	static int workers(int requested, int poolSize, int reserved) {
+		return Math.max(1, Math.min(requested, poolSize - reserved - 1));
+	}
+
+	private static ThreadFactory named(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	// 읽기 스레드가 채우고 채점 스레드 하나가 처리하는 번호 묶음
+	private static class Batch {
+		private final int round;
+		private final long generation;
+		private final long[] userIds;
+		private final long[] sixNumberIds;
+		private final int[] numberIndexes;
+		private final String[] numbers;
+		private final byte[] matchCounts;
+		private final byte[] ranks;
+		private int size;
+
+		private Batch(int round, long generation, int capacity) {
+			this.round = round;
+			this.generation = generation;
+			this.userIds = new long[capacity];
+			this.sixNumberIds = new long[capacity];
+			this.numberIndexes = new int[capacity];
+			this.numbers = new String[capacity];
+			this.matchCounts = new byte[capacity];
+			this.ranks = new byte[capacity];
+		}
+
+		private void add(long userId, long sixNumberId, int numberIndex, String ticket) {
+			userIds[size] = userId;
+			sixNumberIds[size] = sixNumberId;
+			numberIndexes[size] = numberIndex;
+			numbers[size] = ticket;
+			size++;
+		}
+
+		private boolean isFull() {
+			return size == userIds.length;
+		}
+
+		private Tally score(long win, long bonus) {
+			Tally tally = new Tally();
+			tally.tickets = size;
+			for (int i = 0; i < size; i++) {
+				long ticket = NumberMask.of(numbers[i]);
+				int rank = NumberMask.rank(ticket, win, bonus);
+				matchCounts[i] = (byte) NumberMask.matches(ticket, win);
+				ranks[i] = (byte) rank;
+				if (rank == 0) continue;
+
+				tally.rankCounts[rank]++;
+				// 당첨은 드물기 때문에 당첨된 경우만 유저별로 모음
+				tally.winners.computeIfAbsent(userIds[i], id -> new int[6])[rank]++;
+			}
+			return tally;
+		}
+
+		private void saveResults(JdbcTemplate jdbcTemplate) {
+			for (int from = 0; from < size; from += INSERT_BATCH_SIZE) {
+				int offset = from;
+				int count = Math.min(INSERT_BATCH_SIZE, size - from);
+				jdbcTemplate.batchUpdate(RESULT_INSERT, new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						int index = offset + i;
+						ps.setInt(1, round);
+						ps.setLong(2, userIds[index]);
+						ps.setLong(3, sixNumberIds[index]);
+						ps.setInt(4, numberIndexes[index]);
+						ps.setString(5, numbers[index]);
+						ps.setInt(6, matchCounts[index]);
+						ps.setInt(7, ranks[index]);
+						ps.setLong(8, generation);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return count;
+					}
+				});
+			}
+		}
+	}
+
+	private static class Tally {
+		private final long[] rankCounts = new long[6];
+		private final Map<Long, int[]> winners = new HashMap<>();
+		private long tickets;
+
+		private void merge(Tally other) {
+			tickets += other.tickets;
+			for (int rank = 1; rank <= 5; rank++) {
+				rankCounts[rank] += other.rankCounts[rank];
+			}
+			other.winners.forEach((userId, ranks) -> winners.merge(userId, ranks, (a, b) -> {
+				for (int rank = 1; rank <= 5; rank++) a[rank] += b[rank];
+				return a;
+			}));
+		}
+	}
+}
@@ -1,20 +1,29 @@
 package com.example.sixnumber.lotto.service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
+import com.example.sixnumber.global.dto.ListApiResponse;
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.DecayedFrequency;
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.NumberMask;
 import com.example.sixnumber.lotto.dto.LottoResponse;
+import com.example.sixnumber.lotto.dto.PairResponse;
 import com.example.sixnumber.lotto.dto.YearMonthRequest;
 import com.example.sixnumber.lotto.entity.Lotto;
 import com.example.sixnumber.lotto.repository.LottoRepository;
+import com.example.sixnumber.lotto.type.PairSource;
+import com.example.sixnumber.user.dto.WinNumberResponse;
 import com.example.sixnumber.user.entity.User;
 
 import lombok.AllArgsConstructor;
@@ -28,6 +37,9 @@ public class LottoService {
 
 	private final LottoRepository lottoRepository;
 	private final Manager manager;
+	private final DrawService drawService;
+	private final PairStatistics pairStatistics;
+	private final DecayedFrequency decayedFrequency;
 
 	public ItemApiResponse<LottoResponse> mainTopNumbers() {
 		Lotto lotto = lottoRepository.findByMain().orElseThrow(() -> new IllegalArgumentException("해당 정보를 찾을 수 없습니다"));
@@ -46,6 +58,48 @@ public class LottoService {
 		return ItemApiResponse.ok("조회 성공", new LottoResponse(statistics, result));
 	}
 
+	// mainTopNumbers 와 같은 형식이지만 반감기마다 절반으로 줄어든 횟수라 최근 경향이 드러남
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ItemApiResponse<LottoResponse> decayedTopNumbers() {
+		double[] values = decayedFrequency.values();
+		List<Double> countList = new ArrayList<>(values.length);
+		List<Integer> sortedIndices = new ArrayList<>(values.length);
+		StringBuilder statistics = new StringBuilder();
+
+		for (int i = 0; i < values.length; i++) {
+			countList.add(values[i]);
+			sortedIndices.add(i);
+			if (i > 0) statistics.append(", ");
+			statistics.append("(").append(i + 1).append("번 : ").append(String.format("%.2f", values[i])).append(")");
+		}
+
+		String result = manager.reviseResult(sortedIndices, countList);
+		return ItemApiResponse.ok("조회 성공", new LottoResponse(statistics.toString(), result));
+	}
+
+	@Transactional(readOnly = true)
+	public ListApiResponse<WinNumberResponse> getDraws(LocalDate from, LocalDate to) {
+		return ListApiResponse.ok("조회 성공", drawService.findBetween(from, to));
+	}
+
+	@Transactional(readOnly = true)
+	public ItemApiResponse<WinNumberResponse> getDraw(int round) {
+		return ItemApiResponse.ok("조회 성공", drawService.findByRound(round));
+	}
+
+	// SixNumber 를 읽지 않고 메모리에 있는 번호 쌍 횟수만 봄
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ListApiResponse<PairResponse> getPairs(PairSource source, int limit) {
+		if (limit < 1 || limit > PairStatistics.PAIRS) throw new InvalidInputException();
+		return ListApiResponse.ok("조회 성공", pairStatistics.topPairs(source, limit));
+	}
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ListApiResponse<PairResponse> getCompanions(PairSource source, int number, int limit) {
+		if (limit < 1 || limit >= NumberMask.MAX_NUMBER) throw new InvalidInputException();
+		return ListApiResponse.ok("조회 성공", pairStatistics.companions(source, number, limit));
+	}
+
 	public ItemApiResponse<LottoResponse> getTopNumberForMonth(YearMonthRequest request) {
 		Lotto lotto = lottoRepository.findByTopNumbersForMonth(request.getYearMonth())
 			.orElseThrow(() -> new IllegalArgumentException("해당 정보를 찾을 수 없습니다"));
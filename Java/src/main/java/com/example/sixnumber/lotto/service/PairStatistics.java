@@ -0,0 +1,247 @@
+package com.example.sixnumber.lotto.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.dto.PairResponse;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.lotto.type.PairSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 두 번호가 한 조합에 같이 나온 횟수를 45 x 45 를 펼친 배열의 (작은 번호, 큰 번호) 칸에 셈, 조합 하나당 15 칸
+// 서버마다 모아둔 증가분을 flush-millis 마다 Redis hash 에 HINCRBY 로 합치고, 합친 전체 횟수를 다시 읽어 조회에 씀
+// 구매 번호는 SixNumber 를 다시 읽지 않으므로 배포된 뒤부터 세고, 당첨 번호는 Draw 에서 언제든 다시 만들 수 있음
+@Slf4j
+@Service
+public class PairStatistics {
+
+	public static final String KEY = "PAIR: ";
+	public static final int PAIRS = NumberMask.MAX_NUMBER * (NumberMask.MAX_NUMBER - 1) / 2;
+	private static final int SIZE = NumberMask.MAX_NUMBER;
+	private static final int CELLS = SIZE * SIZE;
+	private static final long[] EMPTY = new long[CELLS];
+	private static final Comparator<PairResponse> BY_COUNT = Comparator.comparingLong(PairResponse::getCount).reversed()
+		.thenComparingInt(PairResponse::getFirst)
+		.thenComparingInt(PairResponse::getSecond);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final DrawRepository drawRepository;
+	// 아직 Redis 에 합치지 않은 증가분
+	private final Map<PairSource, AtomicLongArray> pending = new EnumMap<>(PairSource.class);
+	// 마지막으로 Redis 에서 읽은 전체 횟수, 배열째로 바꿔 끼우므로 조회 중에 섞이지 않음
+	private final Map<PairSource, long[]> totals = new ConcurrentHashMap<>();
+	// 당첨 번호 증가분을 보내는 것과 Draw 로 다시 만드는 것이 겹치면 같은 회차가 두 번 더해지므로 순서대로 실행함
+	private final Object drawLock = new Object();
+
+	public PairStatistics(RedisTemplate<String, String> redisTemplate, DrawRepository drawRepository) {
+		this.redisTemplate = redisTemplate;
+		this.drawRepository = drawRepository;
+		for (PairSource source : PairSource.values()) {
+			pending.put(source, new AtomicLongArray(CELLS));
+		}
+	}
+
+	// 구매가 롤백되면 세지 않도록 커밋된 뒤에 반영함
+	public void addTicketsAfterCommit(List<String> tickets) {
+		long[] masks = tickets.stream().mapToLong(NumberMask::of).toArray();
+		Runnable task = () -> {
+			for (long mask : masks) add(PairSource.TICKET, mask);
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	// 보너스 번호는 세지 않음
+	public void addDraw(String numbers) {
+		long mask = NumberMask.draw(numbers)[0];
+		synchronized (drawLock) {
+			add(PairSource.DRAW, mask);
+		}
+	}
+
+	public List<PairResponse> topPairs(PairSource source, int limit) {
+		long[] counts = totals.getOrDefault(source, EMPTY);
+		List<PairResponse> pairs = new ArrayList<>(PAIRS);
+		for (int first = 1; first <= SIZE; first++) {
+			for (int second = first + 1; second <= SIZE; second++) {
+				pairs.add(new PairResponse(first, second, counts[index(first, second)]));
+			}
+		}
+		pairs.sort(BY_COUNT);
+		return new ArrayList<>(pairs.subList(0, Math.min(limit, pairs.size())));
+	}
+
+	// number 와 같이 많이 나온 번호 순, first 는 항상 number
+	public List<PairResponse> companions(PairSource source, int number, int limit) {
+		NumberMask.bit(number);
+		long[] counts = totals.getOrDefault(source, EMPTY);
+		List<PairResponse> pairs = new ArrayList<>(SIZE - 1);
+		for (int other = 1; other <= SIZE; other++) {
+			if (other != number) pairs.add(new PairResponse(number, other, counts[index(number, other)]));
+		}
+		pairs.sort(BY_COUNT);
+		return new ArrayList<>(pairs.subList(0, Math.min(limit, pairs.size())));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Long size = redisTemplate.opsForHash().size(KEY + PairSource.DRAW);
+		if (size == null || size == 0) rebuildDraws();
+		reload();
+	}
+
+	@Scheduled(fixedDelayString = "${pair-statistics.flush-millis:10000}")
+	public void sync() {
+		flush();
+		reload();
+	}
+
+	// 종류마다 0 이 아닌 칸만 한 파이프라인으로 보냄, 실패하면 증가분을 되돌려 다음 주기에 다시 보냄
+	@PreDestroy
+	public void flush() {
+		flush(PairSource.TICKET);
+		synchronized (drawLock) {
+			flush(PairSource.DRAW);
+		}
+	}
+
+	public void reload() {
+		for (PairSource source : PairSource.values()) {
+			Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY + source);
+			long[] counts = new long[CELLS];
+			for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+				counts[parse(String.valueOf(entry.getKey()))] = Long.parseLong(String.valueOf(entry.getValue()));
+			}
+			totals.put(source, counts);
+		}
+	}
+
+	// 당첨 번호 기록이 바뀌면 Draw 전체로 다시 만듦, 회차 수만큼만 읽으므로 가벼움
+	// 임시 키에 채운 뒤 rename 해서 다시 만드는 도중에 비어있는 hash 가 읽히지 않게 함
+	public void rebuildDraws() {
+		synchronized (drawLock) {
+			// 아직 보내지 않은 당첨 번호 증가분도 이미 Draw 에 저장된 회차이므로 버림
+			AtomicLongArray cells = pending.get(PairSource.DRAW);
+			for (int i = 0; i < CELLS; i++) cells.set(i, 0);
+
+			long[] counts = new long[CELLS];
+			for (String numbers : drawRepository.findAllNumbers()) {
+				forEachPair(NumberMask.draw(numbers)[0], index -> counts[index]++);
+			}
+			Map<String, String> fields = new HashMap<>();
+			for (int i = 0; i < CELLS; i++) {
+				if (counts[i] != 0) fields.put(field(i), String.valueOf(counts[i]));
+			}
+
+			String key = KEY + PairSource.DRAW;
+			if (fields.isEmpty()) {
+				redisTemplate.delete(key);
+			} else {
+				String temp = key + ":" + UUID.randomUUID();
+				redisTemplate.opsForHash().putAll(temp, fields);
+				redisTemplate.rename(temp, key);
+			}
+			totals.put(PairSource.DRAW, counts);
+		}
+	}
+
+	static int index(int first, int second) {
+		return (Math.min(first, second) - 1) * SIZE + Math.max(first, second) - 1;
+	}
+
+	private void flush(PairSource source) {
+		AtomicLongArray cells = pending.get(source);
+		long[] deltas = new long[CELLS];
+		boolean changed = false;
+		for (int i = 0; i < CELLS; i++) {
+			deltas[i] = cells.getAndSet(i, 0);
+			changed |= deltas[i] != 0;
+		}
+		if (!changed) return;
+
+		try {
+			increment(KEY + source, deltas);
+		} catch (RuntimeException e) {
+			for (int i = 0; i < CELLS; i++) {
+				if (deltas[i] != 0) cells.addAndGet(i, deltas[i]);
+			}
+			log.warn("번호 쌍 횟수 반영 실패 (" + source + ")", e);
+		}
+	}
+
+	private void add(PairSource source, long mask) {
+		AtomicLongArray cells = pending.get(source);
+		forEachPair(mask, cells::incrementAndGet);
+	}
+
+	// 번호를 작은 순으로 꺼내 i < j 인 모든 쌍의 칸 위치를 넘김
+	private static void forEachPair(long mask, IntConsumer action) {
+		int[] numbers = new int[Long.bitCount(mask)];
+		int size = 0;
+		for (long rest = mask; rest != 0; rest &= rest - 1) {
+			numbers[size++] = Long.numberOfTrailingZeros(rest);
+		}
+		for (int i = 0; i < size; i++) {
+			for (int j = i + 1; j < size; j++) {
+				action.accept(index(numbers[i], numbers[j]));
+			}
+		}
+	}
+
+	private void increment(String key, long[] deltas) {
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				HashOperations<String, String, String> hash = ((RedisOperations<String, String>) operations).opsForHash();
+				for (int i = 0; i < deltas.length; i++) {
+					if (deltas[i] != 0) hash.increment(key, field(i), deltas[i]);
+				}
+				return null;
+			}
+		});
+	}
+
+	// "3:17" 처럼 작은 번호가 앞에 옴
+	private static String field(int index) {
+		return (index / SIZE + 1) + ":" + (index % SIZE + 1);
+	}
+
+	private static int parse(String field) {
+		int colon = field.indexOf(':');
+		return index(Integer.parseInt(field.substring(0, colon)), Integer.parseInt(field.substring(colon + 1)));
+	}
+}
@@ -11,6 +11,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -19,14 +20,27 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.sixnumber.global.dto.ListApiResponse;
 import com.example.sixnumber.global.exception.InvalidInputException;
-import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.exception.UserNotFoundException;
+import com.example.sixnumber.global.util.CombinationPopularity;
+import com.example.sixnumber.global.util.DecayedFrequency;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.global.util.WinNumberCache;
 import com.example.sixnumber.lotto.dto.BuyNumberRequest;
+import com.example.sixnumber.lotto.dto.ConstrainedNumberRequest;
+import com.example.sixnumber.lotto.dto.PopularityResponse;
 import com.example.sixnumber.lotto.dto.StatisticalNumberRequest;
+import com.example.sixnumber.lotto.dto.TicketResultResponse;
+import com.example.sixnumber.lotto.dto.WeightedNumberRequest;
 import com.example.sixnumber.lotto.entity.Lotto;
 import com.example.sixnumber.lotto.entity.SixNumber;
 import com.example.sixnumber.lotto.repository.LottoRepository;
 import com.example.sixnumber.lotto.repository.SixNumberRepository;
-import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.lotto.repository.TicketResultRepository;
+import com.example.sixnumber.user.dto.WinNumberResponse;
+import com.example.sixnumber.user.entity.Statement;
+import com.example.sixnumber.user.repository.StatementRepository;
+import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.type.StatementType;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,13 +51,25 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor
 public class SixNumberService {
 
+	private static final int MAX_RESULT_DRAWS = 52;
+	private static final int MAX_POPULARITY_TICKETS = 100;
+	// 한 번에 생성할 수 있는 번호 수
+	private static final int MAX_GENERATED_TICKETS = 100;
+
 	private final SixNumberRepository sixNumberRepository;
 	private final LottoRepository lottoRepository;
-	private final Manager manager;
+	private final StatementRepository statementRepository;
+	private final UserRepository userRepository;
+	private final TicketResultRepository ticketResultRepository;
+	private final WinNumberCache winNumberCache;
+	private final WeightedNumberGenerator weightedNumberGenerator;
+	private final CombinationPopularity combinationPopularity;
+	private final PairStatistics pairStatistics;
+	private final DecayedFrequency decayedFrequency;
 	private final Random rd = new Random();
 
-	public ListApiResponse<String> buyNumber(BuyNumberRequest request, User user) {
-		confirmationProcess(request, null,  user);
+	public ListApiResponse<String> buyNumber(BuyNumberRequest request, Long userId) {
+		int requiredCash = requireCash(userId, request.getValue(), 200);
 
 		List<String> topNumbers = new ArrayList<>();
 		for (int i = 0; i < request.getValue(); i++) {
@@ -61,20 +87,81 @@ public class SixNumberService {
 			topNumbers.add(result);
 		}
 
-		SixNumber sixNumber = new SixNumber(user.getId(), LocalDate.now(), topNumbers);
-		sixNumberRepository.save(sixNumber);
-		saveMainLottoList(topNumbers);
+		charge(userId, requiredCash, "추첨번호 " + request.getValue() + "회 구매");
+		saveTickets(userId, topNumbers);
 
 		// 임시로 값을 확인하기 위해 ListApiResponse 를 사용
 		return ListApiResponse.ok("요청 성공", topNumbers);
 	}
 
-	public ListApiResponse<String> statisticalNumber(StatisticalNumberRequest request, User user) {
-		confirmationProcess(null, request, user);
+	public ListApiResponse<String> weightedNumber(WeightedNumberRequest request, Long userId) {
+		if (request.getValue() < 1 || request.getValue() > MAX_GENERATED_TICKETS || request.getSource() == null) {
+			throw new InvalidInputException();
+		}
+		int requiredCash = requireCash(userId, request.getValue(), 200);
+
+		List<String> topNumbers = weightedNumberGenerator.generate(request.getSource(), request.getValue());
+
+		charge(userId, requiredCash, "빈도 가중 추첨번호 " + request.getValue() + "회 구매");
+		saveTickets(userId, topNumbers);
+		return ListApiResponse.ok("요청 성공", topNumbers);
+	}
+
+	// 조건을 만족하는 조합의 수를 먼저 세고 그 안에서 바로 뽑으므로 조건이 까다로워도 재시도하지 않음
+	// 조합 수를 세는 표가 커서 잔액을 먼저 확인한 뒤에 만듦
+	public ListApiResponse<String> constrainedNumber(ConstrainedNumberRequest request, Long userId) {
+		if (request.getValue() < 1 || request.getValue() > MAX_GENERATED_TICKETS) throw new InvalidInputException();
+		int requiredCash = requireCash(userId, request.getValue(), 200);
+
+		ConstrainedNumberGenerator generator = ConstrainedNumberGenerator.of(request);
+		if (generator.total() == 0) throw new IllegalArgumentException("조건을 만족하는 번호가 없습니다");
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<String> topNumbers = new ArrayList<>(request.getValue());
+		for (int i = 0; i < request.getValue(); i++) {
+			topNumbers.add(generator.sample(random));
+		}
+
+		charge(userId, requiredCash, "조건 추첨번호 " + request.getValue() + "회 구매");
+		saveTickets(userId, topNumbers);
+		return ListApiResponse.ok("요청 성공", topNumbers);
+	}
+
+	// 같은 조합을 가진 번호 수, 본인 것도 포함함
+	@Transactional(readOnly = true)
+	public ListApiResponse<PopularityResponse> getPopularity(List<String> numbers) {
+		if (numbers == null || numbers.isEmpty() || numbers.size() > MAX_POPULARITY_TICKETS) throw new InvalidInputException();
 
+		List<PopularityResponse> result = new ArrayList<>(numbers.size());
+		for (String ticket : numbers) {
+			long mask = NumberMask.of(ticket);
+			if (Long.bitCount(mask) != 6) throw new InvalidInputException();
+			result.add(new PopularityResponse(ticket, combinationPopularity.count(mask)));
+		}
+		return ListApiResponse.ok("조회 성공", result);
+	}
+
+	// 당첨 번호 등록 때 미리 채점해 둔 결과를 최근 draws 회차만큼 읽음
+	@Transactional(readOnly = true)
+	public ListApiResponse<TicketResultResponse> getMyTickets(Long userId, int draws) {
+		if (draws < 1 || draws > MAX_RESULT_DRAWS) throw new InvalidInputException();
+
+		List<WinNumberResponse> winNumbers = winNumberCache.get().getWinNumbers();
+		if (winNumbers.isEmpty()) return ListApiResponse.ok("조회 성공", List.of());
+
+		int latestRound = winNumbers.get(winNumbers.size() - 1).getTime();
+		List<TicketResultResponse> results = ticketResultRepository.findRecent(userId, latestRound - draws).stream()
+			.map(TicketResultResponse::new)
+			.toList();
+		return ListApiResponse.ok("조회 성공", results);
+	}
+
+	public ListApiResponse<String> statisticalNumber(StatisticalNumberRequest request, Long userId) {
 		// server 에 올렸을 때 비용문제가 발생할거라 이용에 제한을 줄 필요가 있음
 		// if (request.getRepetition() != 1000) throw new IllegalArgumentException("규격을 벗어난 반복횟수 입니다");
 
+		int requiredCash = requireCash(userId, request.getValue(), request.getRepetition() / 2);
+
 		List<String> topNumbers = new ArrayList<>();
 		HashMap<Integer, Integer> countMap = new HashMap<>();
 		for (int x = 1; x <= 45; x++) {
@@ -121,29 +208,40 @@ public class SixNumberService {
 			Thread.currentThread().interrupt();
 		}
 
-		SixNumber sixNumber = new SixNumber(user.getId(), LocalDate.now(), topNumbers);
-		sixNumberRepository.save(sixNumber);
-		saveMainLottoList(topNumbers);
+		charge(userId, requiredCash, repetition + "번 반복 TOP 6 " + value + "회 구매");
+		saveTickets(userId, topNumbers);
 		return ListApiResponse.ok("요청 성공", topNumbers);
 	}
 
-	private void confirmationProcess(BuyNumberRequest buyNumberRequest, StatisticalNumberRequest statisticalNumberRequest, User userIf) {
-		User user = manager.findUser(userIf.getId());
-		int requiredCash = 0;
-		String msg = "";
+	// 번호를 만들기 전에 금액을 계산하고 잔액을 가볍게 확인해서, 잔액이 없는 요청이 생성 비용을 쓰지 못하게 함
+	// 생성하는 동안 유저 row 에 lock 을 걸지 않으므로 실제 차감은 생성 뒤 charge 의 debitCash 가 다시 확인함
+	private int requireCash(Long userId, int count, int unitPrice) {
+		int requiredCash;
+		try {
+			requiredCash = Math.multiplyExact(count, unitPrice);
+		} catch (ArithmeticException e) {
+			throw new InvalidInputException();
+		}
+		if (requiredCash <= 0) throw new InvalidInputException();
+
+		int cash = userRepository.findCashById(userId).orElseThrow(UserNotFoundException::new);
+		if (cash < requiredCash) throw new IllegalArgumentException("금액이 부족합니다");
+		return requiredCash;
+	}
 
-		if (statisticalNumberRequest == null) {
-			requiredCash = buyNumberRequest.getValue() * 200;
-			msg = "추첨번호 " + buyNumberRequest.getValue() + "회 구매 : " + requiredCash + "원 차감";
-		} else if (buyNumberRequest == null) {
-			requiredCash = statisticalNumberRequest.getValue() * (statisticalNumberRequest.getRepetition() / 2);
-			msg = statisticalNumberRequest.getRepetition() + "번 반복 TOP 6 " + statisticalNumberRequest.getValue() + "회 구매 : " + requiredCash + "원 차감";
-		} else throw new InvalidInputException();
+	private void charge(Long userId, int requiredCash, String msg) {
+		if (userRepository.debitCash(userId, requiredCash) == 0) throw new IllegalArgumentException("금액이 부족합니다");
 
-		if (user.getCash() < requiredCash) throw new IllegalArgumentException("금액이 부족합니다");
+		statementRepository.save(new Statement(userId, StatementType.PURCHASE, -requiredCash, msg));
+	}
 
-		user.setCash("-", requiredCash);
-		user.setStatement(LocalDate.now() + ": " + msg);
+	private void saveTickets(Long userId, List<String> topNumbers) {
+		SixNumber sixNumber = new SixNumber(userId, LocalDate.now(), topNumbers);
+		sixNumberRepository.save(sixNumber);
+		saveMainLottoList(topNumbers);
+		combinationPopularity.addAfterCommit(sixNumber.getId(), topNumbers);
+		pairStatistics.addTicketsAfterCommit(topNumbers);
+		decayedFrequency.addAfterCommit(topNumbers);
 	}
 
 	private void saveMainLottoList(List<String> list) {
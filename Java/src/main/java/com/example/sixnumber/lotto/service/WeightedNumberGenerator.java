@@ -0,0 +1,125 @@
+package com.example.sixnumber.lotto.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.sixnumber.global.util.AliasTable;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.lotto.repository.LottoRepository;
+import com.example.sixnumber.lotto.type.WeightSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 출현 횟수에 비례해서 번호를 뽑음, 요청에서는 만들어 둔 AliasTable 로 뽑기만 함
+// 테이블은 스케줄러가 주기적으로 횟수를 다시 읽어서 바뀐 경우에만 새로 만들어 교체함
+@Slf4j
+@Component
+public class WeightedNumberGenerator {
+
+	private final DrawRepository drawRepository;
+	private final LottoRepository lottoRepository;
+	private final Map<WeightSource, Weights> weights = new ConcurrentHashMap<>();
+
+	public WeightedNumberGenerator(DrawRepository drawRepository, LottoRepository lottoRepository) {
+		this.drawRepository = drawRepository;
+		this.lottoRepository = lottoRepository;
+		// 첫 갱신 전까지는 균등하게 뽑음
+		for (WeightSource source : WeightSource.values()) {
+			weights.put(source, new Weights(new long[NumberMask.MAX_NUMBER]));
+		}
+	}
+
+	public List<String> generate(WeightSource source, int count) {
+		AliasTable table = weights.get(source).table;
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<String> tickets = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tickets.add(toTicket(sampleMask(table, random)));
+		}
+		return tickets;
+	}
+
+	public AliasTable table(WeightSource source) {
+		return weights.get(source).table;
+	}
+
+	// 번호 6개를 NumberMask 형태로 뽑음, 이미 뽑힌 번호가 나오면 다시 뽑고 모든 번호에 1 을 더해 두었으므로 항상 끝남
+	public static long sampleMask(AliasTable table, RandomGenerator random) {
+		long mask = 0;
+		while (Long.bitCount(mask) < 6) {
+			mask |= 1L << (table.sample(random) + 1);
+		}
+		return mask;
+	}
+
+	@Transactional(readOnly = true)
+	@Scheduled(fixedDelayString = "${weighted-numbers.refresh-millis:60000}")
+	public void refresh() {
+		update(WeightSource.HISTORY, historyCounts());
+		update(WeightSource.MAIN, mainCounts());
+	}
+
+	private void update(WeightSource source, long[] counts) {
+		if (Arrays.equals(weights.get(source).counts, counts)) return;
+
+		weights.put(source, new Weights(counts));
+		log.info(source + " 가중치 테이블 갱신");
+	}
+
+	private long[] historyCounts() {
+		long[] counts = new long[NumberMask.MAX_NUMBER];
+		for (String numbers : drawRepository.findAllNumbers()) {
+			String[] values = numbers.split(" ");
+			// 마지막 값은 보너스 번호
+			for (int i = 0; i < values.length - 1; i++) {
+				counts[Integer.parseInt(values[i]) - 1]++;
+			}
+		}
+		return counts;
+	}
+
+	private long[] mainCounts() {
+		long[] counts = new long[NumberMask.MAX_NUMBER];
+		lottoRepository.findByMain().ifPresent(lotto -> {
+			List<Integer> countList = lotto.getCountList();
+			for (int i = 0; i < Math.min(counts.length, countList.size()); i++) {
+				counts[i] = countList.get(i);
+			}
+		});
+		return counts;
+	}
+
+	// 비트 순서대로 읽으면 이미 오름차순
+	private static String toTicket(long mask) {
+		StringBuilder ticket = new StringBuilder(17);
+		for (long rest = mask; rest != 0; rest &= rest - 1) {
+			if (ticket.length() > 0) ticket.append(' ');
+			ticket.append(Long.numberOfTrailingZeros(rest));
+		}
+		return ticket.toString();
+	}
+
+	private static class Weights {
+		private final long[] counts;
+		private final AliasTable table;
+
+		private Weights(long[] counts) {
+			this.counts = counts;
+			long[] smoothed = new long[counts.length];
+			for (int i = 0; i < counts.length; i++) {
+				smoothed[i] = counts[i] + 1;
+			}
+			this.table = new AliasTable(smoothed);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.sixnumber.lotto.type;
+
+public enum BacktestStrategy {
+	// buyNumber 와 같은 균등 추첨
+	RANDOM,
+	// statisticalNumber 와 같이 repetition 번 뽑아서 가장 많이 나온 6개
+	STATISTICAL,
+	// weightedNumber 의 HISTORY, MAIN 가중치
+	WEIGHTED_HISTORY,
+	WEIGHTED_MAIN
+}
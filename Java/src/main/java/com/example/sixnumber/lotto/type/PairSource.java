@@ -0,0 +1,8 @@
+package com.example.sixnumber.lotto.type;
+
+public enum PairSource {
+	// 구매된 번호, 기능이 배포된 뒤부터 셈
+	TICKET,
+	// 지금까지 추첨된 당첨 번호(보너스 제외)
+	DRAW
+}
@@ -0,0 +1,8 @@
+package com.example.sixnumber.lotto.type;
+
+public enum WeightSource {
+	// 지금까지 추첨된 당첨 번호(보너스 제외)의 출현 횟수
+	HISTORY,
+	// 메인 Lotto 의 countList, 사이트에서 생성된 번호의 누적 횟수
+	MAIN
+}
@@ -8,20 +8,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
+import com.example.sixnumber.global.dto.JobStatsResponse;
 import com.example.sixnumber.global.dto.ListApiResponse;
+import com.example.sixnumber.global.dto.PasswordHasherStatsResponse;
+import com.example.sixnumber.global.dto.SessionCacheStatsResponse;
+import com.example.sixnumber.global.dto.UserLookupStatsResponse;
+import com.example.sixnumber.global.scurity.UserPrincipal;
+import com.example.sixnumber.lotto.dto.BacktestRequest;
+import com.example.sixnumber.lotto.dto.BacktestResponse;
+import com.example.sixnumber.lotto.dto.DrawSettlementResponse;
 import com.example.sixnumber.user.dto.AdminGetChargingResponse;
 import com.example.sixnumber.user.dto.CashRequest;
+import com.example.sixnumber.user.dto.ChargingPageResponse;
 import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.OnlyMsgRequest;
-import com.example.sixnumber.user.dto.UsersReponse;
+import com.example.sixnumber.user.dto.UserPageResponse;
 import com.example.sixnumber.user.dto.WinNumberRequest;
 import com.example.sixnumber.user.dto.WinNumberResponse;
-import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.service.AdminService;
+import com.example.sixnumber.user.type.Status;
+import com.example.sixnumber.user.type.UserRole;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,13 +45,24 @@ public class AdminController {
 	private final AdminService adminService;
 
 	@GetMapping("/users")
-	public ResponseEntity<ListApiResponse<UsersReponse>> getUsers() {
-		return ResponseEntity.ok(adminService.getUsers());
+	public ResponseEntity<ItemApiResponse<UserPageResponse>> getUsers(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestParam(required = false) Status status,
+		@RequestParam(required = false) UserRole role,
+		@RequestParam(required = false) String nickname
+	) {
+		return ResponseEntity.ok(adminService.getUsers(cursor, size, status, role, nickname));
 	}
 
 	@GetMapping("/chargs")
-	public ResponseEntity<ListApiResponse<AdminGetChargingResponse>> getChargs() {
-		return ResponseEntity.ok(adminService.getChargs());
+	public ResponseEntity<ItemApiResponse<ChargingPageResponse>> getChargs(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestParam(required = false) Long userId,
+		@RequestParam(required = false) Integer value
+	) {
+		return ResponseEntity.ok(adminService.getChargs(cursor, size, userId, value));
 	}
 
 	@GetMapping("/search")
@@ -48,8 +71,8 @@ public class AdminController {
 	}
 
 	@PatchMapping("/users/{userId}")
-	public ResponseEntity<ApiResponse> setAdmin(@PathVariable Long userId, @RequestBody OnlyMsgRequest request, @AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(adminService.setAdmin(request, user, userId));
+	public ResponseEntity<ApiResponse> setAdmin(@PathVariable Long userId, @RequestBody OnlyMsgRequest request, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(adminService.setAdmin(request, user.getId(), userId));
 	}
 
 	@PatchMapping("/users/up-cash")
@@ -63,13 +86,63 @@ public class AdminController {
 	}
 
 	@PostMapping("/lotto")
-	public ResponseEntity<ApiResponse> createLotto(@AuthenticationPrincipal User user) {
+	public ResponseEntity<ApiResponse> createLotto(@AuthenticationPrincipal UserPrincipal user) {
 		return ResponseEntity.ok(adminService.createLotto(user.getEmail()));
 	}
 
 	@PatchMapping("/status/{userId}")
-	public ResponseEntity<?> setStatus(@PathVariable Long userId, @RequestBody OnlyMsgRequest request, @AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(adminService.setStatus(user, userId, request));
+	public ResponseEntity<?> setStatus(@PathVariable Long userId, @RequestBody OnlyMsgRequest request, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(adminService.setStatus(user.getId(), userId, request));
+	}
+
+	@PatchMapping("/users/suspend")
+	public ResponseEntity<ApiResponse> suspendUntreated(@RequestParam(defaultValue = "4") int chargingCount) {
+		return ResponseEntity.ok(adminService.suspendUntreated(chargingCount));
+	}
+
+	@GetMapping("/stats/scheduler")
+	public ResponseEntity<ListApiResponse<JobStatsResponse>> getSchedulerStats() {
+		return ResponseEntity.ok(adminService.getSchedulerStats());
+	}
+
+	@GetMapping("/stats/session-cache")
+	public ResponseEntity<ItemApiResponse<SessionCacheStatsResponse>> getSessionCacheStats() {
+		return ResponseEntity.ok(adminService.getSessionCacheStats());
+	}
+
+	@GetMapping("/stats/password-hasher")
+	public ResponseEntity<ItemApiResponse<PasswordHasherStatsResponse>> getPasswordHasherStats() {
+		return ResponseEntity.ok(adminService.getPasswordHasherStats());
+	}
+
+	@GetMapping("/stats/user-lookups")
+	public ResponseEntity<ItemApiResponse<UserLookupStatsResponse>> getUserLookupStats() {
+		return ResponseEntity.ok(adminService.getUserLookupStats());
+	}
+
+	@PostMapping("/backtests")
+	public ResponseEntity<ItemApiResponse<BacktestResponse>> startBacktest(@RequestBody BacktestRequest request) {
+		return ResponseEntity.ok(adminService.startBacktest(request));
+	}
+
+	@GetMapping("/backtests")
+	public ResponseEntity<ListApiResponse<BacktestResponse>> getBacktests() {
+		return ResponseEntity.ok(adminService.getBacktests());
+	}
+
+	@GetMapping("/backtests/{id}")
+	public ResponseEntity<ItemApiResponse<BacktestResponse>> getBacktest(@PathVariable long id) {
+		return ResponseEntity.ok(adminService.getBacktest(id));
+	}
+
+	@GetMapping("/settlements/{round}")
+	public ResponseEntity<ItemApiResponse<DrawSettlementResponse>> getSettlement(@PathVariable int round) {
+		return ResponseEntity.ok(adminService.getSettlement(round));
+	}
+
+	@PostMapping("/draws/import")
+	public ResponseEntity<ItemApiResponse<Integer>> importDraws(@RequestParam("file") MultipartFile file) {
+		return ResponseEntity.ok(adminService.importDraws(file));
 	}
 
 	@PostMapping("/winnumber")
@@ -3,6 +3,7 @@ package com.example.sixnumber.user.controller;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,11 +11,15 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
 import com.example.sixnumber.global.dto.ListApiResponse;
+import com.example.sixnumber.global.scurity.UserPrincipal;
+import com.example.sixnumber.user.dto.AvailabilityResponse;
 import com.example.sixnumber.user.dto.CashNicknameResponse;
 import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.ChargingResponse;
@@ -22,9 +27,8 @@ import com.example.sixnumber.user.dto.MyInformationResponse;
 import com.example.sixnumber.user.dto.SigninRequest;
 import com.example.sixnumber.user.dto.SignupRequest;
 import com.example.sixnumber.user.dto.OnlyMsgRequest;
-import com.example.sixnumber.user.dto.StatementResponse;
+import com.example.sixnumber.user.dto.StatementPageResponse;
 import com.example.sixnumber.user.dto.WinNumberResponse;
-import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -41,6 +45,14 @@ public class UserController {
 		return ResponseEntity.ok(userService.signUp(request));
 	}
 
+	@GetMapping("/availability")
+	public ResponseEntity<ItemApiResponse<AvailabilityResponse>> checkAvailability(
+		@RequestParam(required = false) String email,
+		@RequestParam(required = false) String nickname
+	) {
+		return ResponseEntity.ok(userService.checkAvailability(email, nickname));
+	}
+
 	@PostMapping("/signin")
 	public ResponseEntity<ApiResponse> signin(@RequestBody SigninRequest request, HttpServletResponse response) {
 		String[] token = userService.signIn(request).split(",");
@@ -55,61 +67,68 @@ public class UserController {
 	}
 
 	@PostMapping("/logout")
-	public ResponseEntity<ApiResponse> logout(@AuthenticationPrincipal User user, HttpServletResponse response) {
-		return ResponseEntity.ok(userService.logout(user));
+	public ResponseEntity<ApiResponse> logout(@AuthenticationPrincipal UserPrincipal user, HttpServletResponse response) {
+		return ResponseEntity.ok(userService.logout(user.getId()));
 	}
 
 	@PatchMapping("/withdraw")
 	public ResponseEntity<ApiResponse> withdraw(@RequestBody OnlyMsgRequest request,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal UserPrincipal user) {
 		return ResponseEntity.ok(userService.withdraw(request, user.getEmail()));
 	}
 
 	// 로그인 후 화면에 바로 띄울지에 대한 고민
 	@GetMapping("/cash")
-	public ResponseEntity<ItemApiResponse<CashNicknameResponse>> getCashNickname(@AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(userService.getCashNickname(user));
+	public ResponseEntity<ItemApiResponse<CashNicknameResponse>> getCashNickname(@AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(userService.getCashNickname(user.getId()));
 	}
 
 	@GetMapping("/charging")
-	public ResponseEntity<ListApiResponse<ChargingResponse>> getChargings(@AuthenticationPrincipal User user) {
+	public ResponseEntity<ListApiResponse<ChargingResponse>> getChargings(@AuthenticationPrincipal UserPrincipal user) {
 		return ResponseEntity.ok(userService.getCharges(user.getId()));
 	}
 
 	@PostMapping("/charging")
 	public ResponseEntity<ApiResponse> charging(@RequestBody ChargingRequest chargingRequest,
-		@AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(userService.charging(chargingRequest, user));
+		@AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(userService.charging(chargingRequest, user.getId()));
 	}
 
 	@PostMapping("/paid")
 	public ResponseEntity<ApiResponse> setPaid(@RequestBody OnlyMsgRequest request,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal UserPrincipal user) {
 		return ResponseEntity.ok(userService.setPaid(request, user.getEmail()));
 	}
 
 	@GetMapping("/statement")
-	public ResponseEntity<ListApiResponse<StatementResponse>> getStatement(@AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(userService.getStatement(user.getEmail()));
+	public ResponseEntity<ItemApiResponse<StatementPageResponse>> getStatement(
+		@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size,
+		@AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(userService.getStatement(user.getId(), cursor, size));
 	}
 
 	@PatchMapping("/update")
-	public ResponseEntity<ApiResponse> updata(@RequestBody SignupRequest request, @AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(userService.update(request, user));
+	public ResponseEntity<ApiResponse> updata(@RequestBody SignupRequest request, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(userService.update(request, user.getId()));
 	}
 
 	@GetMapping("/my-information")
-	public ResponseEntity<ItemApiResponse<MyInformationResponse>> getMyInformation(@AuthenticationPrincipal User user) {
+	public ResponseEntity<ItemApiResponse<MyInformationResponse>> getMyInformation(@AuthenticationPrincipal UserPrincipal user) {
 		return ResponseEntity.ok(userService.getMyInformation(user.getId()));
 	}
 
+	// 페이지마다 호출되므로 바뀌지 않았으면 본문 없이 304 로 응답함
 	@GetMapping("/winnumber")
-	public ResponseEntity<ListApiResponse<WinNumberResponse>> getWinNumber() {
-		return ResponseEntity.ok(userService.getWinNumber());
+	public ResponseEntity<ListApiResponse<WinNumberResponse>> getWinNumber(WebRequest request) {
+		// ETag 를 먼저 읽어야 그 사이 바뀌더라도 이전 본문에 새 ETag 가 붙지 않음
+		String etag = userService.getWinNumberEtag();
+		if (request.checkNotModified(etag)) return null;
+
+		return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(userService.getWinNumber());
 	}
 
 	@PostMapping("/check-pw")
-	public ResponseEntity<ApiResponse> checkPW(@RequestBody OnlyMsgRequest request, @AuthenticationPrincipal User user) {
-		return ResponseEntity.ok(userService.checkPW(request, user.getPassword()));
+	public ResponseEntity<ApiResponse> checkPW(@RequestBody OnlyMsgRequest request, @AuthenticationPrincipal UserPrincipal user) {
+		return ResponseEntity.ok(userService.checkPW(request, user.getId()));
 	}
 }
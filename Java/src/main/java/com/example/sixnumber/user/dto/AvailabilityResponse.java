@@ -0,0 +1,15 @@
+package com.example.sixnumber.user.dto;
+
+import lombok.Getter;
+
+// 요청하지 않은 항목은 null 로 반환함
+@Getter
+public class AvailabilityResponse {
+	private final Boolean email;
+	private final Boolean nickname;
+
+	public AvailabilityResponse(Boolean email, Boolean nickname) {
+		this.email = email;
+		this.nickname = nickname;
+	}
+}
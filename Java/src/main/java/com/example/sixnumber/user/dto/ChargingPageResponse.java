@@ -0,0 +1,16 @@
+package com.example.sixnumber.user.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class ChargingPageResponse {
+	private final List<AdminGetChargingResponse> charges;
+	private final String nextCursor;
+
+	public ChargingPageResponse(List<AdminGetChargingResponse> charges, String nextCursor) {
+		this.charges = charges;
+		this.nextCursor = nextCursor;
+	}
+}
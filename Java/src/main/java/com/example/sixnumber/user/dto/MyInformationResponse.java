@@ -1,7 +1,5 @@
 package com.example.sixnumber.user.dto;
 
-import java.util.List;
-
 import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
@@ -15,7 +13,6 @@ public class MyInformationResponse {
 	private final int cash;
 	private final UserRole role;
 	private final Status status;
-	private final List<String> statement;
 
 	public MyInformationResponse(User user) {
 		this.email = user.getEmail();
@@ -23,6 +20,5 @@ public class MyInformationResponse {
 		this.cash = user.getCash();
 		this.role = user.getRole();
 		this.status = user.getStatus();
-		this.statement = user.getStatement();
 	}
 }
@@ -0,0 +1,16 @@
+package com.example.sixnumber.user.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class StatementPageResponse {
+	private final List<StatementResponse> statements;
+	private final String nextCursor;
+
+	public StatementPageResponse(List<StatementResponse> statements, String nextCursor) {
+		this.statements = statements;
+		this.nextCursor = nextCursor;
+	}
+}
@@ -1,16 +1,23 @@
 package com.example.sixnumber.user.dto;
 
-import java.util.List;
+import java.time.LocalDateTime;
+
+import com.example.sixnumber.user.entity.Statement;
+import com.example.sixnumber.user.type.StatementType;
 
 import lombok.Getter;
 
 @Getter
 public class StatementResponse {
-	private final String localDate;
+	private final StatementType type;
+	private final int amount;
 	private final String msg;
+	private final LocalDateTime createdAt;
 
-	public StatementResponse(String[] strings) {
-		this.localDate = strings[0];
-		this.msg = strings[1];
+	public StatementResponse(Statement statement) {
+		this.type = statement.getType();
+		this.amount = statement.getAmount();
+		this.msg = statement.getMsg();
+		this.createdAt = statement.getCreatedAt();
 	}
 }
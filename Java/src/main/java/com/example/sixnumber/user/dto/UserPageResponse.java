@@ -0,0 +1,16 @@
+package com.example.sixnumber.user.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class UserPageResponse {
+	private final List<UsersReponse> users;
+	private final String nextCursor;
+
+	public UserPageResponse(List<UsersReponse> users, String nextCursor) {
+		this.users = users;
+		this.nextCursor = nextCursor;
+	}
+}
@@ -1,6 +1,6 @@
 package com.example.sixnumber.user.dto;
 
-import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.repository.UserRepository.UserSummary;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
 
@@ -10,16 +10,14 @@ import lombok.Getter;
 public class UsersReponse {
 	private final Long id;
 	private final String email;
-	private final String password;
 	private final String nickname;
 	private final int cash;
 	private final UserRole role;
 	private final Status status;
 
-	public UsersReponse(User user) {
+	public UsersReponse(UserSummary user) {
 		this.id = user.getId();
 		this.email = user.getEmail();
-		this.password = user.getPassword();
 		this.nickname = user.getNickname();
 		this.cash = user.getCash();
 		this.role = user.getRole();
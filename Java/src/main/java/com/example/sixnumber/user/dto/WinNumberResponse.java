@@ -27,6 +27,7 @@ public class WinNumberResponse {
 			winNumbers.add(Integer.parseInt(numListStr[i]));
 		}
 		this.bonus = Integer.parseInt(numListStr[numListStr.length-1]);
-		this.numList = winNumbers;
+		// 캐시에서 여러 요청이 같은 객체를 공유하므로 수정할 수 없게 함
+		this.numList = List.copyOf(winNumbers);
 	}
 }
@@ -0,0 +1,52 @@
+package com.example.sixnumber.user.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import com.example.sixnumber.user.type.StatementType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 거래내역 원장, 추가만 하고 수정하지 않음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "Statements", indexes = @Index(name = "idx_statements_user_created", columnList = "userId, createdAt"))
+public class Statement {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+	@Column(name = "userId", nullable = false)
+	private Long userId;
+	@Enumerated(EnumType.STRING)
+	@Column(name = "type", nullable = false, length = 20)
+	private StatementType type;
+	// 입금은 양수, 차감은 음수
+	@Column(name = "amount", nullable = false)
+	private int amount;
+	@Column(name = "msg", length = 100)
+	private String msg;
+	@Column(name = "createdAt", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public Statement(Long userId, StatementType type, int amount, String msg) {
+		this.userId = userId;
+		this.type = type;
+		this.amount = amount;
+		this.msg = msg;
+		this.createdAt = LocalDateTime.now();
+	}
+}
@@ -2,23 +2,20 @@ package com.example.sixnumber.user.entity;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
-import javax.persistence.CollectionTable;
 import javax.persistence.Column;
-import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.OrderColumn;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -34,6 +31,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 @Table(name = "Users")
 public class User implements UserDetails {
 
@@ -47,6 +45,7 @@ public class User implements UserDetails {
 	private String password;
 	@Column(name = "nickname", nullable = false, unique = true, length = 10)
 	private String nickname;
+	// 서비스에서는 UserRepository.debitCash, creditCash 로만 변경함, 바뀐 컬럼만 update 해서 조회 시점의 값으로 덮어쓰지 않음
 	@Column(name = "cash")
 	private int cash;
 	@Enumerated(EnumType.STRING)
@@ -59,11 +58,11 @@ public class User implements UserDetails {
 	private String paymentDate;
 	@Column(name = "withdrawExpiration")
 	private LocalDate withdrawExpiration;
-	@ElementCollection
-	@OrderColumn(name = "statement_index", nullable = false)
-	private List<String> statement;
 	@Column(name = "chargingCount")
 	private int chargingCount;
+	// 권한, 상태가 바뀌면 증가시켜 이전 버전으로 발급된 access token 을 재발급 대상으로 만듦
+	@Column(name = "tokenVersion", nullable = false)
+	private int tokenVersion;
 
 	public User(SignupRequest request, String password) {
 		this.email = request.getEmail();
@@ -72,7 +71,6 @@ public class User implements UserDetails {
 		this.role = UserRole.ROLE_USER;
 		this.status = Status.ACTIVE;
 		this.cash = 1000;
-		this.statement = new ArrayList<>();
 		this.chargingCount = 0;
 	}
 
@@ -96,10 +94,12 @@ public class User implements UserDetails {
 			case "USER" -> this.role = UserRole.ROLE_USER;
 			case "PAID" -> this.role = UserRole.ROLE_PAID;
 		}
+		this.tokenVersion++;
 	}
 
 	public void setAdmin() {
 		this.role = UserRole.ROLE_ADMIN;
+		this.tokenVersion++;
 	}
 
 	public void setStatus(String status) {
@@ -108,16 +108,13 @@ public class User implements UserDetails {
 			case "SUSPENDED" -> this.status = Status.SUSPENDED;
 			case "DORMANT" -> this.status = Status.DORMANT;
 		}
+		this.tokenVersion++;
 	}
 
 	public void setWithdrawExpiration(LocalDate localDate) {
 		this.withdrawExpiration = localDate;
 	}
 
-	public void setStatement(String str) {
-		this.statement.add(str);
-	}
-
 	public void setChargingCount(int num) {
 		if (num == 0) this.chargingCount = 0;
 		else this.chargingCount += num;
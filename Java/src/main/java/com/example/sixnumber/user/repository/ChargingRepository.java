@@ -0,0 +1,225 @@
+package com.example.sixnumber.user.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 충전 요청은 redis 에만 저장됨, KEYS 스캔 대신 아래 인덱스로 조회함
+// STMT: {chargeId}       -> chargeId (12시간 TTL, 원본)
+// STMT-USER: {userId}    -> 유저별 대기 요청 (sorted set, score = 요청 시각)
+// STMT-QUEUE             -> 전체 대기 요청 (sorted set, score = 요청 시각)
+// STMT-MSG               -> "msg-value" 에서 chargeId 로 가는 hash
+// chargeId 는 기존과 같은 "userId-msg-value" 형식
+@Repository
+@RequiredArgsConstructor
+public class ChargingRepository {
+
+	public static final long EXPIRE_HOURS = 12;
+	private static final String STMT = "STMT: ";
+	private static final String USER_INDEX = "STMT-USER: ";
+	private static final String QUEUE = "STMT-QUEUE";
+	private static final String MSG_INDEX = "STMT-MSG";
+
+	private static final RedisScript<Long> SUBMIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/charging_submit.lua"), Long.class);
+
+	private static final int SCAN_FACTOR = 10;
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	// charging_submit.lua 의 반환값 순서와 같아야 함
+	public enum SubmitResult {
+		SUBMITTED, TOO_MANY, DUPLICATED
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class ChargingPage {
+		private final List<String> charges;
+		// 더 이상 요청이 없으면 null
+		private final String nextCursor;
+	}
+
+	public static String chargeId(Long userId, String msgValue) {
+		return userId + "-" + msgValue;
+	}
+
+	// 개수 제한, 중복 확인, 저장을 lua 스크립트 하나로 처리해서 한번의 왕복으로 끝나고 동시 요청에도 안전함
+	public SubmitResult submit(Long userId, String msgValue, int limit) {
+		String chargeId = chargeId(userId, msgValue);
+		long now = System.currentTimeMillis();
+		List<String> keys = List.of(STMT + chargeId, USER_INDEX + userId, QUEUE, MSG_INDEX);
+		Long code = redisTemplate.execute(SUBMIT_SCRIPT, keys, chargeId, msgValue, String.valueOf(now),
+			String.valueOf((long) cutoff()), String.valueOf(TimeUnit.HOURS.toSeconds(EXPIRE_HOURS)), String.valueOf(limit));
+		if (code == null) throw new IllegalStateException("충전 요청 처리 중 오류가 발생했습니다");
+		return SubmitResult.values()[code.intValue()];
+	}
+
+	public List<String> findByUserId(Long userId) {
+		Set<String> chargeIds = redisTemplate.opsForZSet().range(USER_INDEX + userId, 0, -1);
+		return findAllById(chargeIds);
+	}
+
+	// 요청 순서대로 size 만큼 반환함, 필터 때문에 많이 건너뛰어도 한번에 size * SCAN_FACTOR 개 까지만 확인함
+	// cursor 는 마지막으로 확인한 요청의 (요청 시각, chargeId), 같은 시각의 요청은 chargeId 순으로 정렬되어 있음
+	public ChargingPage findPage(String cursor, int size, Long userId, Integer value) {
+		String key = userId == null ? QUEUE : USER_INDEX + userId;
+		double score = cutoff();
+		String member = null;
+		if (cursor != null) {
+			String[] scoreMember = decodeCursor(cursor);
+			score = Math.max(score, Double.parseDouble(scoreMember[0]));
+			member = scoreMember[1];
+		}
+
+		List<String> charges = new ArrayList<>();
+		int budget = size * SCAN_FACTOR;
+		long offset = 0;
+		boolean exhausted = false;
+		while (charges.size() < size && budget > 0) {
+			int batch = Math.min(budget, size);
+			Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeByScoreWithScores(key, score, Double.MAX_VALUE, offset, batch);
+			if (tuples == null || tuples.isEmpty()) {
+				exhausted = true;
+				break;
+			}
+			budget -= tuples.size();
+
+			List<TypedTuple<String>> candidates = new ArrayList<>();
+			for (TypedTuple<String> tuple : tuples) {
+				if (member != null && tuple.getScore() == score && tuple.getValue().compareTo(member) <= 0) continue;
+				candidates.add(tuple);
+			}
+			// 같은 시각의 요청이 batch 보다 많아서 전부 건너뛴 경우에만 offset 을 사용함
+			if (candidates.isEmpty()) {
+				offset += tuples.size();
+				continue;
+			}
+			offset = 0;
+
+			List<String> matched = candidates.stream()
+				.map(TypedTuple::getValue)
+				.filter(chargeId -> value == null || chargeId.endsWith("-" + value))
+				.toList();
+			List<String> alive = matched.isEmpty() ? List.of() : redisTemplate.opsForValue().multiGet(
+				matched.stream().map(chargeId -> STMT + chargeId).toList());
+
+			int index = 0;
+			for (TypedTuple<String> candidate : candidates) {
+				if (charges.size() >= size) break;
+				score = candidate.getScore();
+				member = candidate.getValue();
+				if (index < matched.size() && matched.get(index).equals(member)) {
+					if (alive.get(index) != null) charges.add(alive.get(index));
+					index++;
+				}
+			}
+			if (charges.size() < size && tuples.size() < batch) exhausted = true;
+		}
+
+		String nextCursor = exhausted || member == null ? null : encodeCursor(score, member);
+		return new ChargingPage(charges, nextCursor);
+	}
+
+	public Optional<String> findByMsgValue(String msgValue) {
+		Object chargeId = redisTemplate.opsForHash().get(MSG_INDEX, msgValue);
+		if (chargeId == null) return Optional.empty();
+
+		return Optional.ofNullable(redisTemplate.opsForValue().get(STMT + chargeId));
+	}
+
+	public void delete(String chargeId) {
+		Long userId = Long.parseLong(chargeId.substring(0, chargeId.indexOf('-')));
+		String msgValue = chargeId.substring(chargeId.indexOf('-') + 1);
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				ops.delete(STMT + chargeId);
+				ops.opsForZSet().remove(USER_INDEX + userId, chargeId);
+				ops.opsForZSet().remove(QUEUE, chargeId);
+				ops.opsForHash().delete(MSG_INDEX, msgValue);
+				return null;
+			}
+		});
+	}
+
+	// 12시간이 지난 요청을 인덱스에서 제거함, 원본 STMT 키는 TTL 로 이미 사라진 상태
+	public int sweepExpired() {
+		Set<String> expired = redisTemplate.opsForZSet().rangeByScore(QUEUE, 0, cutoff());
+		if (expired == null || expired.isEmpty()) return 0;
+
+		List<String> chargeIds = new ArrayList<>(expired);
+		List<Object> msgValues = chargeIds.stream().map(id -> (Object) id.substring(id.indexOf('-') + 1)).toList();
+		// 같은 msg-value 로 새 요청이 들어왔을 수 있어서 아직 만료된 요청을 가리키는 필드만 지움
+		List<Object> owners = redisTemplate.opsForHash().multiGet(MSG_INDEX, msgValues);
+
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				for (int i = 0; i < chargeIds.size(); i++) {
+					String chargeId = chargeIds.get(i);
+					String userId = chargeId.substring(0, chargeId.indexOf('-'));
+					ops.opsForZSet().remove(USER_INDEX + userId, chargeId);
+					if (chargeId.equals(owners.get(i))) ops.opsForHash().delete(MSG_INDEX, msgValues.get(i));
+				}
+				ops.opsForZSet().remove(QUEUE, chargeIds.toArray());
+				return null;
+			}
+		});
+		return chargeIds.size();
+	}
+
+	private List<String> findAllById(Set<String> chargeIds) {
+		if (chargeIds == null || chargeIds.isEmpty()) return List.of();
+
+		List<String> keys = chargeIds.stream().map(chargeId -> STMT + chargeId).toList();
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+		if (values == null) return List.of();
+		return values.stream().filter(Objects::nonNull).toList();
+	}
+
+	private String encodeCursor(double score, String member) {
+		String raw = (long) score + ":" + member;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String[] decodeCursor(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] scoreMember = raw.split(":", 2);
+			if (scoreMember.length != 2) throw new InvalidInputException();
+			Long.parseLong(scoreMember[0]);
+			return scoreMember;
+		} catch (IllegalArgumentException e) {
+			throw new InvalidInputException();
+		}
+	}
+
+	private double cutoff() {
+		return System.currentTimeMillis() - TimeUnit.HOURS.toMillis(EXPIRE_HOURS);
+	}
+}
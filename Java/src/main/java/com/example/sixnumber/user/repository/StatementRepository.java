@@ -0,0 +1,22 @@
+package com.example.sixnumber.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.sixnumber.user.entity.Statement;
+
+public interface StatementRepository extends JpaRepository<Statement, Long> {
+	@Query("SELECT s FROM Statement s WHERE s.userId = :userId ORDER BY s.createdAt DESC, s.id DESC")
+	List<Statement> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+	// offset 없이 마지막으로 본 (createdAt, id) 다음부터 조회해서 내역이 많아도 읽는 양이 일정함
+	@Query("SELECT s FROM Statement s WHERE s.userId = :userId"
+		+ " AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id))"
+		+ " ORDER BY s.createdAt DESC, s.id DESC")
+	List<Statement> findPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id, Pageable pageable);
+}
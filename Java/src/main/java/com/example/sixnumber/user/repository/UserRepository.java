@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,10 +20,48 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Boolean existsUserByNickname(String nickname);
 	List<User> findByRole(UserRole role);
 	Optional<User> findByEmail(String email);
-	Optional<User> findByStatusAndEmail(Status status, String email);
+	List<User> findByEmailOrNickname(String email, String nickname);
 
 	@Query("SELECT u FROM User u WHERE u.status = :status AND u.withdrawExpiration < CURRENT_DATE ")
 	List<User> findByStatusAndWithdrawExpiration(@Param("status") Status status);
-	@Query("SELECT u FROM User u WHERE u.chargingCount = :num")
-	List<User> findUserByUntreated(@Param("num") int num);
+	@Query("SELECT u.id FROM User u WHERE u.chargingCount >= :num AND u.status <> :status")
+	List<Long> findIdByUntreated(@Param("num") int num, @Param("status") Status status);
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE User u SET u.status = :status, u.tokenVersion = u.tokenVersion + 1 WHERE u.id IN :ids AND u.chargingCount >= :num")
+	int updateStatusByIds(@Param("status") Status status, @Param("ids") List<Long> ids, @Param("num") int num);
+	@Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.status = :status")
+	List<Long> findIdByIdInAndStatus(@Param("ids") List<Long> ids, @Param("status") Status status);
+	// 관리자 목록에 보여줄 컬럼만 읽고, offset 없이 마지막으로 본 id 다음부터 조회해서 유저 수와 상관없이 읽는 양이 일정함
+	@Query("SELECT u.id AS id, u.email AS email, u.nickname AS nickname, u.cash AS cash, u.role AS role, u.status AS status"
+		+ " FROM User u WHERE (:cursor IS NULL OR u.id < :cursor)"
+		+ " AND (:status IS NULL OR u.status = :status)"
+		+ " AND (:role IS NULL OR u.role = :role)"
+		+ " AND (:nickname IS NULL OR u.nickname LIKE :nickname ESCAPE '!')"
+		+ " ORDER BY u.id DESC")
+	List<UserSummary> findSummaries(@Param("cursor") Long cursor, @Param("status") Status status,
+		@Param("role") UserRole role, @Param("nickname") String nickname, Pageable pageable);
+	@Modifying
+	@Query("UPDATE User u SET u.chargingCount = u.chargingCount + 1 WHERE u.id = :id")
+	int incrementChargingCount(@Param("id") Long id);
+
+	// 번호를 만들기 전에 잔액만 가볍게 확인하기 위함, 엔티티를 읽지 않음
+	@Query("SELECT u.cash FROM User u WHERE u.id = :id")
+	Optional<Integer> findCashById(@Param("id") Long id);
+
+	// 잔액 확인과 차감을 한 쿼리로 처리해 동시 구매에도 잔액이 음수가 되지 않음, 0 이면 잔액 부족
+	@Modifying
+	@Query("UPDATE User u SET u.cash = u.cash - :amount WHERE u.id = :id AND u.cash >= :amount")
+	int debitCash(@Param("id") Long id, @Param("amount") int amount);
+	@Modifying
+	@Query("UPDATE User u SET u.cash = u.cash + :amount WHERE u.id = :id")
+	int creditCash(@Param("id") Long id, @Param("amount") int amount);
+
+	interface UserSummary {
+		Long getId();
+		String getEmail();
+		String getNickname();
+		int getCash();
+		UserRole getRole();
+		Status getStatus();
+	}
 }
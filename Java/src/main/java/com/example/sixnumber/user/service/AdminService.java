@@ -1,6 +1,5 @@
 package com.example.sixnumber.user.service;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,30 +9,55 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
+import com.example.sixnumber.global.dto.JobStatsResponse;
 import com.example.sixnumber.global.dto.ListApiResponse;
+import com.example.sixnumber.global.dto.PasswordHasherStatsResponse;
+import com.example.sixnumber.global.dto.SessionCacheStatsResponse;
+import com.example.sixnumber.global.dto.UserLookupStatsResponse;
 import com.example.sixnumber.global.exception.InvalidInputException;
 import com.example.sixnumber.global.exception.UserNotFoundException;
+import com.example.sixnumber.global.scheduler.JobMonitor;
+import com.example.sixnumber.global.scurity.SessionCache;
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.PasswordHasher;
+import com.example.sixnumber.lotto.dto.BacktestRequest;
+import com.example.sixnumber.lotto.dto.BacktestResponse;
+import com.example.sixnumber.lotto.dto.DrawSettlementResponse;
+import com.example.sixnumber.lotto.entity.DrawSettlement;
 import com.example.sixnumber.lotto.entity.Lotto;
+import com.example.sixnumber.lotto.repository.DrawSettlementRepository;
 import com.example.sixnumber.lotto.repository.LottoRepository;
+import com.example.sixnumber.lotto.service.BacktestService;
+import com.example.sixnumber.lotto.service.DrawService;
+import com.example.sixnumber.lotto.service.DrawSettlementService;
 import com.example.sixnumber.user.dto.AdminGetChargingResponse;
 import com.example.sixnumber.user.dto.CashRequest;
+import com.example.sixnumber.user.dto.ChargingPageResponse;
 import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.OnlyMsgRequest;
+import com.example.sixnumber.user.dto.UserPageResponse;
 import com.example.sixnumber.user.dto.UsersReponse;
 import com.example.sixnumber.user.dto.WinNumberRequest;
 import com.example.sixnumber.user.dto.WinNumberResponse;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.repository.ChargingRepository;
+import com.example.sixnumber.user.repository.ChargingRepository.ChargingPage;
+import com.example.sixnumber.user.repository.StatementRepository;
 import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.repository.UserRepository.UserSummary;
+import com.example.sixnumber.user.type.StatementType;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
 
@@ -47,62 +71,99 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminService {
 
 	private final UserRepository userRepository;
+	private final ChargingRepository chargingRepository;
+	private final StatementRepository statementRepository;
 	private final LottoRepository lottoRepository;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final Manager manager;
+	private final JobMonitor jobMonitor;
+	private final SessionCache sessionCache;
+	private final PasswordHasher passwordHasher;
+	private final DrawSettlementService drawSettlementService;
+	private final DrawService drawService;
+	private final BacktestService backtestService;
+	private final DrawSettlementRepository drawSettlementRepository;
 
 	// 보안관련 더 생각해봐야함
-	public ApiResponse setAdmin(OnlyMsgRequest request, User user, Long userId) {
+	public ApiResponse setAdmin(OnlyMsgRequest request, Long adminId, Long userId) {
 		String KEY = "AdminSecurityKey";
 		if (!request.getMsg().equals(KEY)) throw new IllegalArgumentException("설정된 KEY값이 아닙니다");
 
-		User target = confirmationProcess(user, userId);
+		User target = confirmationProcess(adminId, userId);
 		target.setAdmin();
+		manager.publishTokenVersion(target);
 		return ApiResponse.ok("변경 완료");
 	}
 
-	// page 처리 필요함
-	public ListApiResponse<UsersReponse> getUsers() {
-		return ListApiResponse.ok("조회 성공", userRepository.findAll().stream().map(UsersReponse::new).collect(Collectors.toList()));
+	// 최근 가입한 유저부터 size 개씩 반환함, 다음 페이지는 nextCursor 로 조회
+	public ItemApiResponse<UserPageResponse> getUsers(String cursor, int size, Status status, UserRole role, String nickname) {
+		if (size < 1 || size > 100) throw new InvalidInputException();
+
+		Long lastId = null;
+		if (cursor != null) {
+			try {
+				lastId = Long.valueOf(cursor);
+			} catch (NumberFormatException e) {
+				throw new InvalidInputException();
+			}
+		}
+		// 닉네임에 포함된 % _ 는 와일드카드가 아닌 문자 그대로 검색함
+		String prefix = nickname == null || nickname.isBlank() ? null
+			: nickname.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+
+		// 다음 페이지가 있는지 확인하기 위해 하나 더 조회함
+		List<UserSummary> users = userRepository.findSummaries(lastId, status, role, prefix, PageRequest.of(0, size + 1));
+
+		String nextCursor = null;
+		if (users.size() > size) {
+			users = users.subList(0, size);
+			nextCursor = String.valueOf(users.get(size - 1).getId());
+		}
+
+		List<UsersReponse> responses = users.stream().map(UsersReponse::new).toList();
+		return ItemApiResponse.ok("조회 성공", new UserPageResponse(responses, nextCursor));
 	}
 
-	public ListApiResponse<AdminGetChargingResponse> getChargs() {
-		Set<String> totalKeys = redisTemplate.keys("*STMT: *");
-		List<AdminGetChargingResponse> userChargesValues = redisTemplate.opsForValue().multiGet(totalKeys).stream().map(AdminGetChargingResponse::new).toList();
-		return ListApiResponse.ok("조회 성공", userChargesValues);
+	// 대기 요청이 많아져도 한번에 size 개만 요청 순서대로 반환함, 다음 페이지는 nextCursor 로 조회
+	public ItemApiResponse<ChargingPageResponse> getChargs(String cursor, int size, Long userId, Integer value) {
+		if (size < 1 || size > 100) throw new InvalidInputException();
+
+		ChargingPage page = chargingRepository.findPage(cursor, size, userId, value);
+		List<AdminGetChargingResponse> charges = page.getCharges().stream().map(AdminGetChargingResponse::new).toList();
+		return ItemApiResponse.ok("조회 성공", new ChargingPageResponse(charges, page.getNextCursor()));
 	}
 
 	public ItemApiResponse<AdminGetChargingResponse> searchCharging(ChargingRequest request) {
 		String searchStr = request.getMsg() + "-" + request.getValue();
-		Set<String> keys = redisTemplate.keys("*" + searchStr + "*");
-		if (keys.isEmpty()) throw new IllegalArgumentException("해당 충전 요청이 없습니다");
+		String value = chargingRepository.findByMsgValue(searchStr)
+			.orElseThrow(() -> new IllegalArgumentException("해당 충전 요청이 없습니다"));
 
-		List<String> value = redisTemplate.opsForValue().multiGet(keys);
-		AdminGetChargingResponse response = new AdminGetChargingResponse(value.get(0));
+		AdminGetChargingResponse response = new AdminGetChargingResponse(value);
 		return ItemApiResponse.ok("조회 성공", response);
 	}
 
 	// 결제에 대해서 고민해봐야함 현재 로직은 특정 계좌에 msg 와 value 가 확인되면 수동으로 넣어주는 방식
 	public ApiResponse upCash(CashRequest cashRequest) {
 		User user = manager.findUser(cashRequest.getUserId());
-		String key = "STMT: " + cashRequest.getUserId() + "-" + cashRequest.getMsg() + "-" + cashRequest.getValue();
+		String chargeId = ChargingRepository.chargeId(cashRequest.getUserId(), cashRequest.getMsg() + "-" + cashRequest.getValue());
 		// searchCharging 에서 검증되어 넘어온 Request 이기에 값이 있는지에 대한 체크는 건너뛰어도 된다 생각함
-		redisTemplate.delete(key);
+		chargingRepository.delete(chargeId);
 
-		user.setStatement(LocalDate.now() + "," + cashRequest.getValue() +"원 충전");
-		user.setCash("+", cashRequest.getValue());
+		userRepository.creditCash(user.getId(), cashRequest.getValue());
+		statementRepository.save(new Statement(user.getId(), StatementType.CHARGE, cashRequest.getValue(), "충전"));
 		user.setChargingCount(0);
 		return ApiResponse.ok("충전 완료");
 	}
 
 	public ApiResponse downCash(CashRequest cashRequest) {
-		User user = manager.findUser(cashRequest.getUserId());
-		if (user.getCash() < cashRequest.getValue()) {
+		Long userId = cashRequest.getUserId();
+		if (userRepository.debitCash(userId, cashRequest.getValue()) == 0) {
+			// 실패한 경우에만 존재 여부를 확인해 성공 경로는 쿼리 한 번으로 끝냄
+			if (!userRepository.existsById(userId)) throw new UserNotFoundException();
 			throw new IllegalArgumentException("해당 유저가 보유한 금액보다 많습니다");
 		}
 
-		user.setCash("-", cashRequest.getValue());
-		user.setStatement(LocalDate.now() + "," + cashRequest.getMsg() + ": " + cashRequest.getValue() + "원 차감");
+		statementRepository.save(new Statement(userId, StatementType.DEDUCT, -cashRequest.getValue(), cashRequest.getMsg()));
 		return ApiResponse.ok("차감 완료");
 	}
 
@@ -123,8 +184,8 @@ public class AdminService {
 		return ApiResponse.ok("생성 완료");
 	}
 
-	public ApiResponse setStatus(User user, Long userId, OnlyMsgRequest request) {
-		User target = confirmationProcess(user, userId);
+	public ApiResponse setStatus(Long adminId, Long userId, OnlyMsgRequest request) {
+		User target = confirmationProcess(adminId, userId);
 		String[] statusStr = {"ACTIVE", "SUSPENDED", "DORMANT"};
 		List<String> statusList = Arrays.asList(statusStr);
 
@@ -135,28 +196,74 @@ public class AdminService {
 		if (targetStatusStr.equals(request.getMsg())) throw new IllegalArgumentException("이미 적용되어 있는 상태코드 입니다");
 
 		target.setStatus(request.getMsg());
+		manager.publishTokenVersion(target);
 
 		if (target.getStatus().equals(Status.SUSPENDED) || target.getStatus().equals(Status.DORMANT)) {
 			if (redisTemplate.opsForValue().get("RT: " + target.getId()) != null) {
 				redisTemplate.delete("RT: " + target.getId());
+				sessionCache.evict(target.getId());
 			}
 		}
 		return ApiResponse.ok("상태 변경 완료");
 	}
 
-	public ApiResponse setWinNumber(WinNumberRequest request) {
-		if (redisTemplate.opsForList().size("WNL") >= 5) {
-			redisTemplate.opsForList().leftPop("WNL");
-		}
+	// 장애 대응용, 스케줄러를 기다리지 않고 미처리 요청이 쌓인 유저를 일괄 정지시킴
+	public ApiResponse suspendUntreated(int chargingCount) {
+		if (chargingCount < 1) throw new InvalidInputException();
+
+		int count = manager.suspendUntreatedUsers(chargingCount);
+		return ApiResponse.ok(count + "명 정지 처리 완료");
+	}
+
+	public ListApiResponse<JobStatsResponse> getSchedulerStats() {
+		return ListApiResponse.ok("조회 성공", jobMonitor.getStats());
+	}
+
+	public ItemApiResponse<SessionCacheStatsResponse> getSessionCacheStats() {
+		return ItemApiResponse.ok("조회 성공", sessionCache.getStats());
+	}
+
+	public ItemApiResponse<PasswordHasherStatsResponse> getPasswordHasherStats() {
+		return ItemApiResponse.ok("조회 성공", passwordHasher.getStats());
+	}
+
+	public ItemApiResponse<UserLookupStatsResponse> getUserLookupStats() {
+		return ItemApiResponse.ok("조회 성공", manager.getLookupStats());
+	}
+
+	public ItemApiResponse<BacktestResponse> startBacktest(BacktestRequest request) {
+		return ItemApiResponse.ok("백테스트 등록 완료", backtestService.start(request));
+	}
+
+	public ItemApiResponse<BacktestResponse> getBacktest(long id) {
+		return ItemApiResponse.ok("조회 성공", backtestService.get(id));
+	}
+
+	public ListApiResponse<BacktestResponse> getBacktests() {
+		return ListApiResponse.ok("조회 성공", backtestService.getAll());
+	}
+
+	public ItemApiResponse<DrawSettlementResponse> getSettlement(int round) {
+		DrawSettlement settlement = drawSettlementRepository.findById(round)
+			.orElseThrow(() -> new IllegalArgumentException("정산 결과가 존재하지 않습니다"));
+		return ItemApiResponse.ok("조회 성공", new DrawSettlementResponse(settlement));
+	}
+
+	// 묶음마다 따로 커밋되도록 트랜잭션 밖에서 실행함
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ItemApiResponse<Integer> importDraws(MultipartFile file) {
+		if (file == null || file.isEmpty()) throw new InvalidInputException();
+		return ItemApiResponse.ok("저장 완료", drawService.importFile(file));
+	}
 
-		String result = request.getTime()+","+request.getDate()+","+request.getPrize()+","
-			+request.getWinner()+","+request.getNumbers();
-		redisTemplate.opsForList().rightPush("WNL", result);
+	public ApiResponse setWinNumber(WinNumberRequest request) {
+		drawSettlementService.settleAfterCommit(request.getTime(), request.getDate(), request.getNumbers());
+		drawService.record(request);
 		return ApiResponse.ok("생성 완료");
 	}
 
-	private User confirmationProcess(User user, Long userId) {
-		if (user.getId().equals(userId)) {
+	private User confirmationProcess(Long adminId, Long userId) {
+		if (adminId.equals(userId)) {
 			throw new IllegalArgumentException("본인 입니다");
 		}
 
@@ -1,16 +1,20 @@
 package com.example.sixnumber.user.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,8 +22,14 @@ import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
 import com.example.sixnumber.global.dto.ListApiResponse;
 import com.example.sixnumber.global.exception.BreakTheRulesException;
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.scurity.SessionCache;
 import com.example.sixnumber.global.util.JwtProvider;
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.PasswordHasher;
+import com.example.sixnumber.global.util.SignupFilter;
+import com.example.sixnumber.global.util.WinNumberCache;
+import com.example.sixnumber.user.dto.AvailabilityResponse;
 import com.example.sixnumber.user.dto.CashNicknameResponse;
 import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.ChargingResponse;
@@ -27,12 +37,17 @@ import com.example.sixnumber.user.dto.MyInformationResponse;
 import com.example.sixnumber.user.dto.SigninRequest;
 import com.example.sixnumber.user.dto.SignupRequest;
 import com.example.sixnumber.user.dto.OnlyMsgRequest;
+import com.example.sixnumber.user.dto.StatementPageResponse;
 import com.example.sixnumber.user.dto.StatementResponse;
 import com.example.sixnumber.user.dto.WinNumberResponse;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.exception.OverlapException;
 import com.example.sixnumber.user.exception.StatusNotActiveException;
+import com.example.sixnumber.user.repository.ChargingRepository;
+import com.example.sixnumber.user.repository.StatementRepository;
 import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.type.StatementType;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
 
@@ -46,44 +61,70 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
 	private final UserRepository userRepository;
+	private final ChargingRepository chargingRepository;
+	private final StatementRepository statementRepository;
 	private final JwtProvider jwtProvider;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final Manager manager;
+	private final SessionCache sessionCache;
+	private final SignupFilter signupFilter;
+	private final WinNumberCache winNumberCache;
 	private final String RTK = "RT: ";
-	private final String STMT = "STMT: ";
 
 	public ApiResponse signUp(SignupRequest request) {
-		Optional<User> dormantUser = userRepository.findByStatusAndEmail(Status.DORMANT, request.getEmail());
-		if (dormantUser.isPresent()) {
-			User user = dormantUser.get();
-			if (passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-				user.setStatus("ACTIVE");
-				user.setWithdrawExpiration(null);
-				userRepository.save(user);
-				return ApiResponse.ok("재가입 완료");
+		// 필터에 없으면 가입된 적 없는 값이므로 DB 조회 없이 바로 가입함
+		if (signupFilter.mightContainEmail(request.getEmail()) || signupFilter.mightContainNickname(request.getNickname())) {
+			List<User> users = userRepository.findByEmailOrNickname(request.getEmail(), request.getNickname());
+			Optional<User> sameEmail = users.stream().filter(u -> u.getEmail().equals(request.getEmail())).findFirst();
+
+			if (sameEmail.isPresent()) {
+				User user = sameEmail.get();
+				if (user.getStatus().equals(Status.DORMANT) && passwordHasher.matches(request.getPassword(), user.getPassword())) {
+					user.setStatus("ACTIVE");
+					user.setWithdrawExpiration(null);
+					userRepository.save(user);
+					return ApiResponse.ok("재가입 완료");
+				}
+				throw new OverlapException("중복된 이메일입니다");
 			}
+			if (!users.isEmpty()) throw new OverlapException("중복된 닉네임입니다");
 		}
 
-		if (userRepository.existsUserByEmail(request.getEmail())) {
-			throw new OverlapException("중복된 이메일입니다");
-		}
-		if (userRepository.existsUserByNickname(request.getNickname())) {
-			throw new OverlapException("중복된 닉네임입니다");
-		}
-
-		String password = passwordEncoder.encode(request.getPassword());
+		String password = passwordHasher.encode(request.getPassword());
 		User user = new User(request, password);
-		user.setStatement(LocalDate.now() + "," + "회원가입 기념 1000원 증정");
-		userRepository.save(user);
+		try {
+			userRepository.save(user);
+		} catch (DataIntegrityViolationException e) {
+			// 다른 서버의 가입이 아직 필터에 반영되지 않은 경우 unique 제약으로 막힘
+			throw new OverlapException("중복된 이메일 또는 닉네임입니다");
+		}
+		signupFilter.add(user.getEmail(), user.getNickname());
+		statementRepository.save(new Statement(user.getId(), StatementType.BONUS, 1000, "회원가입 기념 1000원 증정"));
 		return ApiResponse.create("회원가입 완료");
 	}
 
+	// 가입 화면에서 입력할 때마다 호출되므로 필터에 없는 값은 DB 를 거치지 않음
+	public ItemApiResponse<AvailabilityResponse> checkAvailability(String email, String nickname) {
+		if (email == null && nickname == null) throw new InvalidInputException();
+
+		Boolean emailAvailable = null;
+		Boolean nicknameAvailable = null;
+		if (email != null) {
+			emailAvailable = !signupFilter.mightContainEmail(email) || !userRepository.existsUserByEmail(email);
+		}
+		if (nickname != null) {
+			nicknameAvailable = !signupFilter.mightContainNickname(nickname) || !userRepository.existsUserByNickname(nickname);
+		}
+		return ItemApiResponse.ok("조회 성공", new AvailabilityResponse(emailAvailable, nicknameAvailable));
+	}
+
 	public String signIn(SigninRequest request) {
 		User user = manager.findUser(request.getEmail());
 
 		if (redisTemplate.opsForValue().get(RTK + user.getId()) != null) {
 			redisTemplate.delete(RTK + user.getId());
+			sessionCache.evict(user.getId());
 			throw new OverlapException("중복된 로그인입니다");
 		}
 
@@ -96,19 +137,20 @@ public class UserService {
 			} throw new StatusNotActiveException(msg);
 		}
 
-		if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+		if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
 			throw new IllegalArgumentException("아이디 또는 비밀번호를 잘못 입력하셨습니다");
 		}
 
-		String accessToken = jwtProvider.accessToken(user.getEmail(), user.getId());
+		String accessToken = jwtProvider.accessToken(user);
 		String refreshToken = jwtProvider.refreshToken(user.getEmail(), user.getId());
 		redisTemplate.opsForValue().set(RTK + user.getId(), refreshToken);
 
 		return accessToken + "," + refreshToken;
 	}
 
-	public ApiResponse logout(User user) {
-		redisTemplate.delete(RTK + user.getId());
+	public ApiResponse logout(Long userId) {
+		redisTemplate.delete(RTK + userId);
+		sessionCache.evict(userId);
 		return ApiResponse.ok("로그아웃 성공");
 	}
 
@@ -121,6 +163,7 @@ public class UserService {
 		User user = manager.findUser(email);
 		user.setStatus("DORMANT");
 		user.setWithdrawExpiration(LocalDate.now().plusMonths(1));
+		manager.publishTokenVersion(user);
 		return ApiResponse.ok("회원 탈퇴 완료");
 	}
 
@@ -135,53 +178,48 @@ public class UserService {
 			return ApiResponse.ok("해지 신청 성공");
 		}
 
-		if (user.getCash() < 5000 || user.getRole().equals(UserRole.ROLE_PAID)) {
+		if (user.getRole().equals(UserRole.ROLE_PAID) || userRepository.debitCash(user.getId(), 5000) == 0) {
 			throw new IllegalArgumentException("금액이 부족하거나 이미 월정액 이용자입니다");
 		}
-		user.setCash("-", 5000);
 		user.setRole("PAID");
+		manager.publishTokenVersion(user);
 		user.setPaymentDate(YearMonth.now().toString());
-		user.setStatement(LocalDate.now() + ": " + YearMonth.now() + "월 정액 비용 5000원 차감");
+		statementRepository.save(new Statement(user.getId(), StatementType.SUBSCRIPTION, -5000, YearMonth.now() + "월 정액 비용"));
 		return ApiResponse.ok("권한 변경 성공");
 	}
 
-	public ItemApiResponse<CashNicknameResponse> getCashNickname(User user) {
+	public ItemApiResponse<CashNicknameResponse> getCashNickname(Long userId) {
+		User user = manager.findUser(userId);
 		return ItemApiResponse.ok("조회 성공", new CashNicknameResponse(user)) ;
 	}
 
 	// 요청을 최대 3번까지 할 수 있고 12시간 기준으로 삭제되기에 충전 요청 취소를 만들지 않아도 된다 판단함
-	public ApiResponse charging(ChargingRequest chargingRequest, User user) {
-		Set<String> keys = redisTemplate.keys("*" + STMT + user.getId() + "-*");
-
-		if (keys.size() >= 3) throw new IllegalArgumentException("처리되지 않은 요청사항이 많습니다");
+	public ApiResponse charging(ChargingRequest chargingRequest, Long userId) {
+		User user = manager.findUser(userId);
+		if (user.getChargingCount() >= 4) throw new BreakTheRulesException();
 
 		String msgValue = chargingRequest.getMsg() + "-" + chargingRequest.getValue();
-		Set<String> checkIncorrect = redisTemplate.keys("*" + msgValue + "*");
-		if (!checkIncorrect.isEmpty())
-			throw new OverlapException("서버내에 중복된 문자가 확인되어 반려되었습니다. 다른 문자로 다시 시대해주세요");
-
-		if (user.getChargingCount() >= 4) throw new BreakTheRulesException();
+		switch (chargingRepository.submit(user.getId(), msgValue, 3)) {
+			case TOO_MANY -> throw new IllegalArgumentException("처리되지 않은 요청사항이 많습니다");
+			case DUPLICATED -> throw new OverlapException("서버내에 중복된 문자가 확인되어 반려되었습니다. 다른 문자로 다시 시대해주세요");
+		}
 
-		String value = user.getId() + "-" + chargingRequest.getMsg() + "-" + chargingRequest.getValue();
-		redisTemplate.opsForValue().set(STMT + value, value, 12, TimeUnit.HOURS);
-		user.setChargingCount(1);
-		userRepository.save(user);
+		userRepository.incrementChargingCount(user.getId());
 		return ApiResponse.ok("요청 성공");
 	}
 
 	public ListApiResponse<ChargingResponse> getCharges(Long userId) {
-		Set<String> keys = redisTemplate.keys("*" + STMT + userId + "-*");
+		List<String> values = chargingRepository.findByUserId(userId);
 
-		if (keys.size() == 0)
+		if (values.isEmpty())
 			throw new IllegalArgumentException("충전 요청이 존재하지 않습니다");
 
-		List<String> values = redisTemplate.opsForValue().multiGet(keys);
-
 		List<ChargingResponse> responses = values.stream().map(ChargingResponse::new).collect(Collectors.toList());
 		return ListApiResponse.ok("신청 리스트 조회 성공", responses);
 	}
 
-	public ApiResponse update(SignupRequest request, User user) {
+	public ApiResponse update(SignupRequest request, Long userId) {
+		User user = manager.findUser(userId);
 		// password 를 프론트로 보내지 않기로 결정함 (보안 문제)
 		String password = request.getPassword();
 		if (password.equals("")) {
@@ -195,9 +233,9 @@ public class UserService {
 
 		for (int i = 0; i < userIf.size(); i++) {
 			if (i == 1) {
-				if (passwordEncoder.matches(inputData.get(i), userIf.get(i))) continue;
+				if (passwordHasher.matches(inputData.get(i), userIf.get(i))) continue;
 				else if (inputData.get(i).equals(userIf.get(i))) continue;
-				else inputData.set(i, passwordEncoder.encode(inputData.get(i)));
+				else inputData.set(i, passwordHasher.encode(inputData.get(i)));
 			}
 			if (userIf.get(i).equals(inputData.get(i))) continue;
 			userIf.set(i, inputData.get(i));
@@ -205,46 +243,80 @@ public class UserService {
 
 		user.update(userIf);
 		userRepository.save(user);
+		signupFilter.add(user.getEmail(), user.getNickname());
 		return ApiResponse.ok("수정 완료");
 	}
 
-	public ListApiResponse<StatementResponse> getStatement(String email) {
-		User user = manager.findUser(email);
+	// 최근 내역부터 size 개씩 반환함, 다음 페이지는 nextCursor 로 조회
+	public ItemApiResponse<StatementPageResponse> getStatement(Long userId, String cursor, int size) {
+		if (size < 1 || size > 100) throw new InvalidInputException();
+
+		// 다음 페이지가 있는지 확인하기 위해 하나 더 조회함
+		Pageable limit = PageRequest.of(0, size + 1);
+		List<Statement> statements;
+		if (cursor == null) {
+			statements = statementRepository.findFirstPage(userId, limit);
+		} else {
+			String[] createdAtId = decodeCursor(cursor);
+			statements = statementRepository.findPageAfter(userId, LocalDateTime.parse(createdAtId[0]),
+				Long.valueOf(createdAtId[1]), limit);
+		}
 
-		if (user.getStatement().size() == 0)
+		if (cursor == null && statements.isEmpty())
 			throw new IllegalArgumentException("거래내역이 존재하지 않습니다");
 
-		List<StatementResponse> response = user.getStatement()
-			.stream()
-			.map(str -> {
-				String[] localDateMsg = str.split(",");
-				return new StatementResponse(localDateMsg);
-			})
-			.toList();
-		return ListApiResponse.ok("거래내역 조회 완료", response);
+		String nextCursor = null;
+		if (statements.size() > size) {
+			statements = statements.subList(0, size);
+			nextCursor = encodeCursor(statements.get(size - 1));
+		}
+
+		List<StatementResponse> responses = statements.stream().map(StatementResponse::new).toList();
+		return ItemApiResponse.ok("거래내역 조회 완료", new StatementPageResponse(responses, nextCursor));
 	}
 
 	public ListApiResponse<WinNumberResponse> getWinNumber() {
-		List<String> value = redisTemplate.opsForList().range("WNL", 0, -1);
-		if (value.isEmpty()) {
+		List<WinNumberResponse> responses = winNumberCache.get().getWinNumbers();
+		if (responses.isEmpty()) {
 			throw new IllegalArgumentException("당첨 번호 정보가 존재하지 않습니다");
 		}
-
-		List<WinNumberResponse> responses = value.stream().map(WinNumberResponse::new).toList();
 		return ListApiResponse.ok("조회 성공", responses);
 	}
 
+	public String getWinNumberEtag() {
+		return winNumberCache.get().getEtag();
+	}
+
 	public ItemApiResponse<MyInformationResponse> getMyInformation(Long userId) {
 		User user = manager.findUser(userId);
 		MyInformationResponse response = new MyInformationResponse(user);
 		return ItemApiResponse.ok("조회 성공", response);
 	}
 
-	public ApiResponse checkPW(OnlyMsgRequest request, String password) {
-		if (!passwordEncoder.matches(request.getMsg(), password)) {
+	public ApiResponse checkPW(OnlyMsgRequest request, Long userId) {
+		User user = manager.findUser(userId);
+		if (!passwordHasher.matches(request.getMsg(), user.getPassword())) {
 			throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
 		}
 
 		return ApiResponse.ok("본인확인 성공");
 	}
+
+	private String encodeCursor(Statement statement) {
+		String raw = statement.getCreatedAt() + "," + statement.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String[] decodeCursor(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] createdAtId = raw.split(",", 2);
+			if (createdAtId.length != 2) throw new InvalidInputException();
+			LocalDateTime.parse(createdAtId[0]);
+			Long.valueOf(createdAtId[1]);
+			return createdAtId;
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidInputException();
+		}
+	}
 }
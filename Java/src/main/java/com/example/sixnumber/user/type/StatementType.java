@@ -0,0 +1,10 @@
+package com.example.sixnumber.user.type;
+
+public enum StatementType {
+	// 회원가입 기념 지급
+	BONUS,
+	CHARGE,
+	DEDUCT,
+	PURCHASE,
+	SUBSCRIPTION
+}
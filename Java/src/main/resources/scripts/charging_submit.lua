@@ -0,0 +1,24 @@
+-- 충전 요청 제출, 개수 제한, 중복 확인, 저장을 한번에 처리함
+-- KEYS[1] = STMT: {chargeId}, KEYS[2] = STMT-USER: {userId}, KEYS[3] = STMT-QUEUE, KEYS[4] = STMT-MSG
+-- ARGV[1] = chargeId, ARGV[2] = msg-value, ARGV[3] = 요청 시각(ms), ARGV[4] = 만료 기준 시각(ms)
+-- ARGV[5] = TTL(초), ARGV[6] = 유저별 최대 대기 요청 수
+-- 반환값 0 = 저장, 1 = 대기 요청 초과, 2 = 중복된 msg-value
+
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+if redis.call('ZCARD', KEYS[2]) >= tonumber(ARGV[6]) then
+	return 1
+end
+
+local owner = redis.call('HGET', KEYS[4], ARGV[2])
+if owner then
+	local requestedAt = redis.call('ZSCORE', KEYS[3], owner)
+	if requestedAt and tonumber(requestedAt) > tonumber(ARGV[4]) then
+		return 2
+	end
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[5])
+redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+redis.call('ZADD', KEYS[3], ARGV[3], ARGV[1])
+redis.call('HSET', KEYS[4], ARGV[2], ARGV[1])
+return 0
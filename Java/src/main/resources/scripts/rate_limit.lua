@@ -0,0 +1,23 @@
+-- GCRA token bucket, LocalRateLimiter 와 같은 계산을 Redis 서버 시간 기준으로 수행
+-- KEYS[1] = 버킷 key
+-- ARGV[1] = 토큰 하나가 채워지는 간격 (μs), ARGV[2] = 버킷 크기
+-- 허용되면 0, 거절되면 다시 요청할 수 있을 때까지 남은 시간(ms) 반환
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+local interval = tonumber(ARGV[1])
+local burst = interval * tonumber(ARGV[2])
+
+local tat = tonumber(redis.call('GET', KEYS[1])) or now
+if tat < now then
+    tat = now
+end
+
+local newTat = tat + interval
+local allowAt = newTat - burst
+if now < allowAt then
+    return math.max(1, math.floor((allowAt - now) / 1000))
+end
+
+-- 버킷이 가득 차는 시각이 지나면 key 가 필요 없으므로 그때 만료시킴
+redis.call('SET', KEYS[1], string.format('%.0f', newTat), 'PX', math.ceil((newTat - now) / 1000) + 1)
+return 0
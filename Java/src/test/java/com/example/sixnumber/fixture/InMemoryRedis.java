@@ -0,0 +1,96 @@
+package com.example.sixnumber.fixture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+// 실제 Redis 없이 문자열 key-value, list 와 pub/sub 만 메모리에서 흉내내는 테스트용 RedisTemplate
+public class InMemoryRedis {
+
+	private final Map<String, String> values = new ConcurrentHashMap<>();
+	private final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+	private final Map<String, List<MessageListener>> listeners = new ConcurrentHashMap<>();
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@SuppressWarnings("unchecked")
+	public InMemoryRedis() {
+		redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		ListOperations<String, String> listOperations = mock(ListOperations.class);
+
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		lenient().when(valueOperations.get(anyString())).thenAnswer(inv -> values.get(inv.<String>getArgument(0)));
+		lenient().doAnswer(inv -> values.put(inv.getArgument(0), inv.getArgument(1)))
+			.when(valueOperations).set(anyString(), anyString());
+		lenient().when(valueOperations.multiGet(anyCollection())).thenAnswer(inv -> {
+			List<String> result = new ArrayList<>();
+			for (String key : inv.<Collection<String>>getArgument(0)) result.add(values.get(key));
+			return result;
+		});
+		lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+		lenient().when(listOperations.range(anyString(), anyLong(), anyLong())).thenAnswer(inv -> {
+			List<String> list = list(inv.getArgument(0));
+			long start = inv.getArgument(1);
+			long end = inv.getArgument(2);
+			if (end < 0) end += list.size();
+			return new ArrayList<>(list.subList((int) start, (int) Math.min(list.size(), end + 1)));
+		});
+		lenient().when(listOperations.size(anyString())).thenAnswer(inv -> (long) list(inv.getArgument(0)).size());
+		lenient().when(listOperations.rightPush(anyString(), anyString())).thenAnswer(inv -> {
+			List<String> list = list(inv.getArgument(0));
+			list.add(inv.getArgument(1));
+			return (long) list.size();
+		});
+		lenient().when(listOperations.leftPop(anyString())).thenAnswer(inv -> {
+			List<String> list = list(inv.getArgument(0));
+			return list.isEmpty() ? null : list.remove(0);
+		});
+		lenient().when(redisTemplate.delete(anyString())).thenAnswer(inv -> values.remove(inv.<String>getArgument(0)) != null);
+		lenient().when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(inv -> {
+			String channel = inv.getArgument(0);
+			List<MessageListener> subscribers = listeners.getOrDefault(channel, List.of());
+			DefaultMessage message = new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+				String.valueOf(inv.<Object>getArgument(1)).getBytes(StandardCharsets.UTF_8));
+			subscribers.forEach(listener -> listener.onMessage(message, null));
+			return (long) subscribers.size();
+		});
+	}
+
+	public RedisTemplate<String, String> template() {
+		return redisTemplate;
+	}
+
+	public void subscribe(String channel, MessageListener listener) {
+		listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+
+	public void set(String key, String value) {
+		values.put(key, value);
+	}
+
+	public void delete(String key) {
+		values.remove(key);
+		lists.remove(key);
+	}
+
+	public void rightPush(String key, String value) {
+		list(key).add(value);
+	}
+
+	private List<String> list(String key) {
+		return lists.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+	}
+}
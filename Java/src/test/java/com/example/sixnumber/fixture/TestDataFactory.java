@@ -17,7 +17,9 @@ import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.SigninRequest;
 import com.example.sixnumber.user.dto.SignupRequest;
 import com.example.sixnumber.user.dto.WinNumberRequest;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.type.StatementType;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
 
@@ -61,6 +63,10 @@ public class TestDataFactory {
 		);
 	}
 
+	public static Statement statement() {
+		return new Statement(7L, StatementType.CHARGE, 5000, "충전");
+	}
+
 	public static CashRequest cashRequest() {
 		return new CashRequest(
 			7L,
@@ -0,0 +1,44 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.global.util.AliasTable;
+
+public class AliasTableTest {
+
+	@Test
+	void sample_followsWeights() {
+		long[] weights = {1, 2, 3, 4, 0, 10};
+		AliasTable table = new AliasTable(weights);
+		SplittableRandom random = new SplittableRandom(7);
+
+		int samples = 200000;
+		int[] counts = new int[weights.length];
+		for (int i = 0; i < samples; i++) counts[table.sample(random)]++;
+
+		assertEquals(0, counts[4]);
+		for (int i = 0; i < weights.length; i++) {
+			double expected = (double) weights[i] / 20;
+			assertEquals(expected, (double) counts[i] / samples, 0.01);
+		}
+	}
+
+	@Test
+	void sample_singleWeight() {
+		AliasTable table = new AliasTable(new long[] {0, 0, 5});
+		SplittableRandom random = new SplittableRandom(7);
+
+		for (int i = 0; i < 1000; i++) assertEquals(2, table.sample(random));
+	}
+
+	@Test
+	void create_fail() {
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new long[0]));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new long[] {0, 0}));
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(new long[] {1, -1}));
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.global.util.BloomFilter;
+
+public class BloomFilterTest {
+
+	@Test
+	void mightContain_noFalseNegative() {
+		BloomFilter filter = new BloomFilter(10000, 0.01);
+		for (int i = 0; i < 10000; i++) filter.put("user" + i + "@email.com");
+
+		for (int i = 0; i < 10000; i++) {
+			assertTrue(filter.mightContain("user" + i + "@email.com"));
+		}
+	}
+
+	@Test
+	void mightContain_falsePositiveRate() {
+		BloomFilter filter = new BloomFilter(10000, 0.01);
+		for (int i = 0; i < 10000; i++) filter.put("nickname" + i);
+
+		int falsePositives = 0;
+		for (int i = 10000; i < 110000; i++) {
+			if (filter.mightContain("nickname" + i)) falsePositives++;
+		}
+
+		// 지정한 오탐률 1% 에 여유를 두고 확인함
+		assertTrue(falsePositives < 2000, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void mightContain_empty() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+
+		assertFalse(filter.mightContain("nickname"));
+	}
+}
@@ -0,0 +1,196 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.sixnumber.fixture.InMemoryRedis;
+import com.example.sixnumber.global.exception.ServerBusyException;
+import com.example.sixnumber.global.util.CombinationPopularity;
+import com.example.sixnumber.global.util.NumberMask;
+
+public class CombinationPopularityTest {
+
+	@TempDir
+	Path dir;
+
+	private InMemoryRedis redis;
+	private JdbcTemplate jdbcTemplate;
+	private Path snapshot;
+
+	@BeforeEach
+	public void setup() {
+		redis = new InMemoryRedis();
+		jdbcTemplate = mock(JdbcTemplate.class);
+		snapshot = dir.resolve("popularity.bin");
+	}
+
+	@Test
+	void addAfterCommit() {
+		CombinationPopularity popularity = create();
+		popularity.load();
+
+		popularity.addAfterCommit(1L, List.of("1 2 3 4 5 6", "1 2 3 4 5 6", "7 8 9 10 11 12"));
+
+		assertEquals(2, popularity.count(NumberMask.of("1 2 3 4 5 6")));
+		assertEquals(1, popularity.count(NumberMask.of("7 8 9 10 11 12")));
+		assertEquals(0, popularity.count(NumberMask.of("40 41 42 43 44 45")));
+	}
+
+	@Test
+	void onMessage_otherServer() {
+		CombinationPopularity sender = create();
+		CombinationPopularity receiver = create();
+		sender.load();
+		receiver.load();
+		redis.subscribe(CombinationPopularity.CHANNEL, sender);
+		redis.subscribe(CombinationPopularity.CHANNEL, receiver);
+
+		sender.addAfterCommit(1L, List.of("1 2 3 4 5 6"));
+
+		// 보낸 서버는 알림을 받아도 두 번 세지 않음
+		assertEquals(1, sender.count(NumberMask.of("1 2 3 4 5 6")));
+		assertEquals(1, receiver.count(NumberMask.of("1 2 3 4 5 6")));
+	}
+
+	@Test
+	void snapshot_restart() {
+		markRow(5L, 7L, 19550L);
+		CombinationPopularity popularity = create();
+		popularity.load();
+		popularity.addAfterCommit(5L, List.of("1 2 3 4 5 6", "40 41 42 43 44 45"));
+		popularity.snapshot();
+
+		assertTrue(Files.exists(snapshot));
+
+		CombinationPopularity restarted = create();
+		restarted.load();
+
+		assertEquals(1, restarted.count(NumberMask.of("1 2 3 4 5 6")));
+		assertEquals(1, restarted.count(NumberMask.of("40 41 42 43 44 45")));
+		// 파일에 남긴 id 뒤부터만 DB 에서 다시 읽음
+		verify(jdbcTemplate, times(2)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void load_discardsSnapshot_schemaRecreated() {
+		markRow(5L, 7L, 19550L);
+		CombinationPopularity popularity = create();
+		popularity.load();
+		popularity.addAfterCommit(5L, List.of("1 2 3 4 5 6"));
+		popularity.snapshot();
+
+		// 스키마가 다시 만들어져 id 5 번이 아직 없음
+		doReturn(List.of()).when(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(5L));
+		CombinationPopularity restarted = create();
+		restarted.load();
+
+		assertTrue(restarted.isLoaded());
+		assertEquals(0, restarted.count(NumberMask.of("1 2 3 4 5 6")));
+	}
+
+	@Test
+	void load_discardsSnapshot_differentRow() {
+		markRow(5L, 7L, 19550L);
+		CombinationPopularity popularity = create();
+		popularity.load();
+		popularity.addAfterCommit(5L, List.of("1 2 3 4 5 6"));
+		popularity.snapshot();
+
+		// 같은 id 지만 다른 유저의 번호
+		markRow(5L, 8L, 19560L);
+		CombinationPopularity restarted = create();
+		restarted.load();
+
+		assertEquals(0, restarted.count(NumberMask.of("1 2 3 4 5 6")));
+	}
+
+	@Test
+	void snapshot_skipped_unknownRow() {
+		CombinationPopularity popularity = create();
+		popularity.load();
+		popularity.addAfterCommit(5L, List.of("1 2 3 4 5 6"));
+
+		popularity.snapshot();
+
+		assertFalse(Files.exists(snapshot));
+
+		// 다음 주기에는 다시 시도함
+		markRow(5L, 7L, 19550L);
+		popularity.snapshot();
+
+		assertTrue(Files.exists(snapshot));
+	}
+
+	@Test
+	void load_fail_corruptedSnapshot() throws Exception {
+		Files.write(snapshot, "broken".getBytes(StandardCharsets.UTF_8));
+
+		CombinationPopularity popularity = create();
+		popularity.load();
+
+		assertTrue(popularity.isLoaded());
+		assertEquals(0, popularity.count(NumberMask.of("1 2 3 4 5 6")));
+	}
+
+	@Test
+	void load_appliesPurchasesMadeWhileLoading() throws Exception {
+		ResultSet row = mock(ResultSet.class);
+		when(row.getLong(1)).thenReturn(5L);
+		when(row.getString(2)).thenReturn("1 2 3 4 5 6");
+		doAnswer(invocation -> {
+			((RowCallbackHandler) invocation.getArgument(1)).processRow(row);
+			return null;
+		}).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+		CombinationPopularity popularity = create();
+
+		// 5 번은 DB 에서도 읽히고, 6 번은 DB 를 읽은 뒤에 커밋됨
+		popularity.addAfterCommit(5L, List.of("1 2 3 4 5 6"));
+		popularity.addAfterCommit(6L, List.of("7 8 9 10 11 12"));
+		popularity.load();
+
+		assertEquals(1, popularity.count(NumberMask.of("1 2 3 4 5 6")));
+		assertEquals(1, popularity.count(NumberMask.of("7 8 9 10 11 12")));
+	}
+
+	@Test
+	void count_fail_notLoaded() {
+		CombinationPopularity popularity = create();
+
+		assertThrows(ServerBusyException.class, () -> popularity.count(NumberMask.of("1 2 3 4 5 6")));
+	}
+
+	@Test
+	void onMessage_ignoresMalformed() {
+		CombinationPopularity popularity = create();
+		popularity.load();
+
+		popularity.onMessage(new DefaultMessage(CombinationPopularity.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"broken".getBytes(StandardCharsets.UTF_8)), null);
+
+		assertEquals(0, popularity.count(NumberMask.of("1 2 3 4 5 6")));
+	}
+
+	private void markRow(long sixNumberId, long userId, long buyEpochDay) {
+		doReturn(List.<long[]>of(new long[] {userId, buyEpochDay}))
+			.when(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(sixNumberId));
+	}
+
+	private CombinationPopularity create() {
+		return new CombinationPopularity(redis.template(), jdbcTemplate, snapshot.toString(), 100);
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.global.util.CombinationRank;
+import com.example.sixnumber.global.util.NumberMask;
+
+public class CombinationRankTest {
+
+	@Test
+	void rank_bounds() {
+		assertEquals(0, CombinationRank.rank(NumberMask.of("1 2 3 4 5 6")));
+		assertEquals(1, CombinationRank.rank(NumberMask.of("1 2 3 4 5 7")));
+		assertEquals(CombinationRank.COUNT - 1, CombinationRank.rank(NumberMask.of("40 41 42 43 44 45")));
+	}
+
+	@Test
+	void rank_unique() {
+		boolean[] seen = new boolean[CombinationRank.COUNT];
+		int count = 0;
+		for (int a = 1; a <= 40; a++)
+			for (int b = a + 1; b <= 41; b++)
+				for (int c = b + 1; c <= 42; c++)
+					for (int d = c + 1; d <= 43; d++)
+						for (int e = d + 1; e <= 44; e++)
+							for (int f = e + 1; f <= 45; f++) {
+								long mask = (1L << a) | (1L << b) | (1L << c) | (1L << d) | (1L << e) | (1L << f);
+								int rank = CombinationRank.rank(mask);
+								assertFalse(seen[rank]);
+								seen[rank] = true;
+								count++;
+							}
+		assertEquals(CombinationRank.COUNT, count);
+	}
+
+	@Test
+	void rank_fail() {
+		assertThrows(IllegalArgumentException.class, () -> CombinationRank.rank(NumberMask.of("1 2 3 4 5")));
+		assertThrows(IllegalArgumentException.class, () -> CombinationRank.rank(1L | NumberMask.of("1 2 3 4 5")));
+	}
+}
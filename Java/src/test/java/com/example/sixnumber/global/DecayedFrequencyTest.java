@@ -0,0 +1,112 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.fixture.InMemoryRedis;
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.DecayedFrequency;
+
+public class DecayedFrequencyTest {
+
+	private static final long HOUR = 3_600_000;
+
+	private InMemoryRedis redis;
+
+	@BeforeEach
+	public void setup() {
+		redis = new InMemoryRedis();
+	}
+
+	@Test
+	void add_halvesEveryHalfLife() {
+		DecayedFrequency frequency = new DecayedFrequency(redis.template(), 1);
+		long now = System.currentTimeMillis();
+
+		frequency.add(now, new int[] {1, 1, 45});
+		frequency.add(now + HOUR, new int[] {2});
+
+		double[] values = frequency.values(now + HOUR);
+		assertEquals(1.0, values[0], 1e-9);
+		assertEquals(0.5, values[44], 1e-9);
+		assertEquals(1.0, values[1], 1e-9);
+		assertEquals(0.0, values[2]);
+
+		assertEquals(0.25, frequency.values(now + 3 * HOUR)[0], 1e-9);
+	}
+
+	@Test
+	void add_longIdle() {
+		DecayedFrequency frequency = new DecayedFrequency(redis.template(), 1);
+		long now = System.currentTimeMillis();
+
+		frequency.add(now, new int[] {3});
+		// 배율이 e^300 을 넘는 시점이라 기준 시각을 다시 맞춘 뒤에 더함
+		frequency.add(now + 500 * HOUR, new int[] {3, 4});
+
+		double[] values = frequency.values(now + 501 * HOUR);
+		assertEquals(0.5, values[2], 1e-9);
+		assertEquals(0.5, values[3], 1e-9);
+		assertFalse(Double.isNaN(values[0]));
+	}
+
+	@Test
+	void add_fail_invalidNumber() {
+		DecayedFrequency frequency = new DecayedFrequency(redis.template(), 1);
+		long now = System.currentTimeMillis();
+
+		Assertions.assertThrows(InvalidInputException.class, () -> frequency.add(now, new int[] {1, 46}));
+
+		assertEquals(0.0, frequency.values(now)[0]);
+	}
+
+	@Test
+	void constructor_fail_halfLife() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new DecayedFrequency(redis.template(), 0));
+	}
+
+	@Test
+	void onMessage_otherServer() {
+		DecayedFrequency sender = new DecayedFrequency(redis.template(), 168);
+		DecayedFrequency receiver = new DecayedFrequency(redis.template(), 168);
+		redis.subscribe(DecayedFrequency.CHANNEL, sender);
+		redis.subscribe(DecayedFrequency.CHANNEL, receiver);
+
+		sender.addAfterCommit(List.of("1 2 3 4 5 6", "1 7 8 9 10 11"));
+
+		// 보낸 서버는 알림을 받아도 두 번 세지 않음
+		long now = System.currentTimeMillis();
+		assertEquals(2.0, sender.values(now)[0], 1e-3);
+		assertEquals(2.0, receiver.values(now)[0], 1e-3);
+		assertEquals(1.0, receiver.values(now)[10], 1e-3);
+	}
+
+	@Test
+	void snapshot_restart() {
+		DecayedFrequency frequency = new DecayedFrequency(redis.template(), 168);
+		frequency.addAfterCommit(List.of("1 2 3 4 5 6"));
+		frequency.snapshot();
+
+		DecayedFrequency restarted = new DecayedFrequency(redis.template(), 168);
+		restarted.load();
+
+		long now = System.currentTimeMillis();
+		assertEquals(1.0, restarted.values(now)[5], 1e-3);
+		assertEquals(0.0, restarted.values(now)[6]);
+	}
+
+	@Test
+	void load_invalidSnapshot() {
+		redis.set(DecayedFrequency.KEY, "1 2 3");
+		DecayedFrequency frequency = new DecayedFrequency(redis.template(), 168);
+
+		frequency.load();
+
+		assertEquals(0.0, frequency.values()[0]);
+	}
+}
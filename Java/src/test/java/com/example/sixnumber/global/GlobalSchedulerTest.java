@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntSupplier;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,17 +18,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 import com.example.sixnumber.fixture.TestDataFactory;
 import com.example.sixnumber.global.scheduler.GlobalScheduler;
+import com.example.sixnumber.global.scheduler.JobMonitor;
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.SignupFilter;
 import com.example.sixnumber.lotto.entity.Lotto;
 import com.example.sixnumber.lotto.entity.SixNumber;
 import com.example.sixnumber.lotto.repository.LottoRepository;
 import com.example.sixnumber.lotto.repository.SixNumberRepository;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.repository.ChargingRepository;
+import com.example.sixnumber.user.repository.StatementRepository;
 import com.example.sixnumber.user.repository.UserRepository;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
@@ -40,21 +44,28 @@ public class GlobalSchedulerTest {
 	@Mock
 	private UserRepository userRepository;
 	@Mock
+	private ChargingRepository chargingRepository;
+	@Mock
+	private StatementRepository statementRepository;
+	@Mock
 	private LottoRepository lottoRepository;
 	@Mock
 	private SixNumberRepository sixNumberRepository;
 	@Mock
-	private RedisTemplate<String, String> redisTemplate;
-	@Mock
 	private Manager manager;
+	@Mock
+	private SignupFilter signupFilter;
+	@Mock
+	private JobMonitor jobMonitor;
 
 	private User saveUser;
-	private ValueOperations<String, String> valueOperations;
 
 	@BeforeEach
 	public void setup() {
 		saveUser = TestDataFactory.user();
-		valueOperations = mock(ValueOperations.class);
+		// 작업 본문은 JobMonitor 를 거쳐 실행되기에 그대로 실행되도록 함
+		lenient().doAnswer(invocation -> ((IntSupplier) invocation.getArgument(1)).getAsInt())
+			.when(jobMonitor).run(anyString(), any(IntSupplier.class));
 	}
 
 	@Test
@@ -80,13 +91,14 @@ public class GlobalSchedulerTest {
 		saveUser.setPaymentDate(String.valueOf(YearMonth.now().minusMonths(1)));
 
 		when(userRepository.findByRole(UserRole.ROLE_PAID)).thenReturn(List.of(saveUser));
+		when(userRepository.debitCash(saveUser.getId(), 5000)).thenReturn(1);
 
 		globalScheduler.paymentAndCancellation();
 
 		verify(userRepository).findByRole(UserRole.ROLE_PAID);
-		assertEquals(saveUser.getCash(), 1000);
+		verify(userRepository).debitCash(saveUser.getId(), 5000);
 		assertEquals(saveUser.getPaymentDate(), YearMonth.now().toString());
-		assertEquals(saveUser.getStatement().get(0), LocalDate.now() + "," + YearMonth.now() + "월 정액 비용 5000원 차감");
+		verify(statementRepository).save(any(Statement.class));
 	}
 
 	@ParameterizedTest
@@ -101,7 +113,9 @@ public class GlobalSchedulerTest {
 		globalScheduler.paymentAndCancellation();
 
 		verify(userRepository).findByRole(UserRole.ROLE_PAID);
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
 		assertEquals(saveUser.getCash(), resultCash);
+		assertEquals(saveUser.getRole(), UserRole.ROLE_USER);
 	}
 
 	@Test
@@ -127,18 +141,24 @@ public class GlobalSchedulerTest {
 
 		verify(userRepository).findByStatusAndWithdrawExpiration(eq(Status.DORMANT));
 		verify(userRepository).deleteAll(anyList());
+		verify(signupFilter).rebuildAll();
 	}
 
 	@Test
 	void autoSetSuspended() {
-		saveUser.setChargingCount(4);
-		when(userRepository.findUserByUntreated(4)).thenReturn(List.of(saveUser));
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(manager.suspendUntreatedUsers(4)).thenReturn(1);
 
 		globalScheduler.autoSetSuspended();
 
-		verify(userRepository).findUserByUntreated(4);
-		verify(valueOperations).get(anyString());
-		assertEquals(saveUser.getStatus(), Status.SUSPENDED);
+		verify(manager).suspendUntreatedUsers(4);
+	}
+
+	@Test
+	void sweepCharging() {
+		when(chargingRepository.sweepExpired()).thenReturn(2);
+
+		globalScheduler.sweepCharging();
+
+		verify(chargingRepository).sweepExpired();
 	}
 }
@@ -0,0 +1,112 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sixnumber.global.dto.JobStatsResponse;
+import com.example.sixnumber.global.scheduler.JobMonitor;
+
+@ExtendWith(MockitoExtension.class)
+public class JobMonitorTest {
+	@InjectMocks
+	private JobMonitor jobMonitor;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	private ValueOperations<String, String> valueOperations;
+
+	@BeforeEach
+	public void setup() {
+		valueOperations = mock(ValueOperations.class);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void run_success() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		jobMonitor.run("job", () -> 3);
+
+		verify(valueOperations).set(eq("JOB: job"), anyString());
+		List<JobStatsResponse> stats = jobMonitor.getStats();
+		assertEquals(stats.size(), 1);
+		assertEquals(stats.get(0).getRuns(), 1);
+		assertEquals(stats.get(0).getRows(), 3);
+		assertEquals(stats.get(0).getFailures(), 0);
+		assertNotNull(stats.get(0).getLastSuccess());
+	}
+
+	@Test
+	void run_fail() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> jobMonitor.run("job", () -> {
+			throw new IllegalArgumentException();
+		}));
+
+		verify(redisTemplate, never()).opsForValue();
+		JobStatsResponse stats = jobMonitor.getStats().get(0);
+		assertEquals(stats.getRuns(), 1);
+		assertEquals(stats.getFailures(), 1);
+		assertNull(stats.getLastSuccess());
+	}
+
+	@Test
+	void run_inTransaction_commit() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		TransactionSynchronizationManager.initSynchronization();
+
+		jobMonitor.run("job", () -> 3);
+
+		// 커밋 전에는 성공으로 기록하지 않음
+		verify(redisTemplate, never()).opsForValue();
+		assertEquals(jobMonitor.getStats().get(0).getRuns(), 0);
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		verify(valueOperations).set(eq("JOB: job"), anyString());
+		assertEquals(jobMonitor.getStats().get(0).getRuns(), 1);
+		assertEquals(jobMonitor.getStats().get(0).getFailures(), 0);
+	}
+
+	@Test
+	void run_inTransaction_rollback() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		jobMonitor.run("job", () -> 3);
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		verify(redisTemplate, never()).opsForValue();
+		JobStatsResponse stats = jobMonitor.getStats().get(0);
+		assertEquals(stats.getFailures(), 1);
+		assertNull(stats.getLastSuccess());
+	}
+
+	private void complete(int status) {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (status == TransactionSynchronization.STATUS_COMMITTED) synchronization.afterCommit();
+			synchronization.afterCompletion(status);
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.global.ratelimit.LocalRateLimiter;
+import com.example.sixnumber.global.ratelimit.RateLimitProperties.Route;
+
+public class LocalRateLimiterTest {
+
+	private final LocalRateLimiter rateLimiter = new LocalRateLimiter();
+
+	@Test
+	void tryAcquire_burst_then_reject() {
+		Route route = route(3, 1);
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(rateLimiter.tryAcquire("ip:1", route), 0);
+		}
+
+		long retryAfter = rateLimiter.tryAcquire("ip:1", route);
+		assertTrue(retryAfter > 0);
+		assertTrue(retryAfter <= 60_000);
+	}
+
+	@Test
+	void tryAcquire_keys_independent() {
+		Route route = route(1, 1);
+
+		assertEquals(rateLimiter.tryAcquire("ip:1", route), 0);
+		assertTrue(rateLimiter.tryAcquire("ip:1", route) > 0);
+		assertEquals(rateLimiter.tryAcquire("ip:2", route), 0);
+	}
+
+	@Test
+	void tryAcquire_concurrent_exact() throws Exception {
+		Route route = route(100, 1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			futures.add(executor.submit(() -> {
+				int allowed = 0;
+				for (int i = 0; i < 100; i++) {
+					if (rateLimiter.tryAcquire("user:7", route) == 0) allowed++;
+				}
+				return allowed;
+			}));
+		}
+
+		int total = 0;
+		for (Future<Integer> future : futures) total += future.get(5, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		assertEquals(total, 100);
+	}
+
+	private Route route(int capacity, int refillPerMinute) {
+		Route route = new Route();
+		route.setName("test");
+		route.setCapacity(capacity);
+		route.setRefillPerMinute(refillPerMinute);
+		return route;
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sixnumber.fixture.TestDataFactory;
+import com.example.sixnumber.global.dto.UserLookupStatsResponse;
+import com.example.sixnumber.global.scurity.SessionCache;
+import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.type.Status;
+import com.example.sixnumber.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ManagerTest {
+	@InjectMocks
+	private Manager manager;
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private SessionCache sessionCache;
+
+	private User saveUser;
+
+	@BeforeEach
+	public void setup() {
+		saveUser = TestDataFactory.user();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) complete();
+	}
+
+	@Test
+	void reviseResult_decayed() {
+		List<Integer> sortedIndices = new ArrayList<>(IntStream.range(0, 8).boxed().toList());
+		List<Double> countList = List.of(0.1, 2.5, 0.3, 1.25, 0.0, 3.0, 0.75, 1.0);
+
+		assertEquals("2 3 4 6 7 8", manager.reviseResult(sortedIndices, countList));
+	}
+
+	@Test
+	void findUser_reuse_inTransaction() {
+		TransactionSynchronizationManager.initSynchronization();
+		when(userRepository.findById(7L)).thenReturn(Optional.of(saveUser));
+
+		assertSame(manager.findUser(7L), saveUser);
+		assertSame(manager.findUser(7L), saveUser);
+		assertSame(manager.findUser(saveUser.getEmail()), saveUser);
+		complete();
+
+		verify(userRepository).findById(7L);
+		verify(userRepository, never()).findByEmail(anyString());
+		UserLookupStatsResponse stats = manager.getLookupStats();
+		assertEquals(stats.getTransactions(), 1);
+		assertEquals(stats.getLookups(), 3);
+		assertEquals(stats.getQueries(), 1);
+		assertEquals(stats.getMaxLookups(), 3);
+	}
+
+	@Test
+	void findUser_noTransaction() {
+		when(userRepository.findById(7L)).thenReturn(Optional.of(saveUser));
+
+		manager.findUser(7L);
+		manager.findUser(7L);
+
+		verify(userRepository, times(2)).findById(7L);
+		assertEquals(manager.getLookupStats().getTransactions(), 0);
+	}
+
+	@Test
+	void suspendUntreatedUsers_revokeOnlySuspended() {
+		List<Long> ids = List.of(1L, 2L, 3L);
+		when(userRepository.findIdByUntreated(4, Status.SUSPENDED)).thenReturn(ids);
+		when(userRepository.updateStatusByIds(Status.SUSPENDED, ids, 4)).thenReturn(2);
+		when(userRepository.findIdByIdInAndStatus(ids, Status.SUSPENDED)).thenReturn(List.of(1L, 3L));
+
+		assertEquals(manager.suspendUntreatedUsers(4), 2);
+
+		verify(sessionCache).evictAll(List.of(1L, 3L));
+	}
+
+	@Test
+	void suspendUntreatedUsers_allSuspended() {
+		List<Long> ids = List.of(1L, 2L);
+		when(userRepository.findIdByUntreated(4, Status.SUSPENDED)).thenReturn(ids);
+		when(userRepository.updateStatusByIds(Status.SUSPENDED, ids, 4)).thenReturn(2);
+
+		assertEquals(manager.suspendUntreatedUsers(4), 2);
+
+		verify(userRepository, never()).findIdByIdInAndStatus(anyList(), any());
+		verify(sessionCache).evictAll(ids);
+	}
+
+	private void complete() {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
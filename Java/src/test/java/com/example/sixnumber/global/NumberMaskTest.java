@@ -0,0 +1,49 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.NumberMask;
+
+public class NumberMaskTest {
+
+	@Test
+	void of() {
+		long mask = NumberMask.of("1 12 23 34 44 45");
+
+		assertEquals(6, Long.bitCount(mask));
+		assertEquals((1L << 1) | (1L << 12) | (1L << 23) | (1L << 34) | (1L << 44) | (1L << 45), mask);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0 1 2 3 4 5", "1 2 3 4 5 46"})
+	void of_fail_outOfRange(String numbers) {
+		assertThrows(InvalidInputException.class, () -> NumberMask.of(numbers));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"'1 2 3 4 5 6', 1",
+		"'1 2 3 4 5 7', 2",
+		"'1 2 3 4 5 8', 3",
+		"'1 2 3 4 8 9', 4",
+		"'1 2 3 8 9 10', 5",
+		"'1 2 7 8 9 10', 0"
+	})
+	void rank(String ticket, int expected) {
+		long[] draw = NumberMask.draw("1 2 3 4 5 6 7");
+
+		assertEquals(expected, NumberMask.rank(NumberMask.of(ticket), draw[0], draw[1]));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1 2 3 4 5 6", "1 2 3 4 5 6 6", "1 1 2 3 4 5 6", "1 2 3 4 5 a 7", "1 2 3 4 5 6 46"})
+	void draw_fail(String numbers) {
+		assertThrows(InvalidInputException.class, () -> NumberMask.draw(numbers));
+	}
+}
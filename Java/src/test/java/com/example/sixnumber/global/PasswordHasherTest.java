@@ -0,0 +1,80 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.sixnumber.global.dto.PasswordHasherStatsResponse;
+import com.example.sixnumber.global.exception.ServerBusyException;
+import com.example.sixnumber.global.util.PasswordHasher;
+
+public class PasswordHasherTest {
+
+	private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHasher passwordHasher;
+
+	@AfterEach
+	public void tearDown() {
+		release.countDown();
+		passwordHasher.shutdown();
+	}
+
+	@Test
+	void matches_success() {
+		passwordHasher = new PasswordHasher(passwordEncoder, 1, 1, 1000);
+		when(passwordEncoder.matches("raw", "encoded")).thenReturn(true);
+
+		assertTrue(passwordHasher.matches("raw", "encoded"));
+
+		PasswordHasherStatsResponse stats = passwordHasher.getStats();
+		assertEquals(stats.getHashes(), 1);
+		assertEquals(stats.getRejections(), 0);
+	}
+
+	@Test
+	void encode_fail_rejected() throws InterruptedException {
+		passwordHasher = new PasswordHasher(passwordEncoder, 1, 1, 5000);
+		CountDownLatch started = new CountDownLatch(1);
+		when(passwordEncoder.encode(anyString())).thenAnswer(inv -> {
+			started.countDown();
+			release.await();
+			return "encoded";
+		});
+
+		// 스레드 1개가 작업 중이고 대기열 1칸이 차면 세번째 요청은 바로 거절됨
+		CompletableFuture.runAsync(() -> passwordHasher.encode("first"));
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+		CompletableFuture.runAsync(() -> passwordHasher.encode("second"));
+		waitUntilQueued();
+
+		Assertions.assertThrows(ServerBusyException.class, () -> passwordHasher.encode("third"));
+		assertEquals(passwordHasher.getStats().getRejections(), 1);
+	}
+
+	@Test
+	void encode_fail_timeout() {
+		passwordHasher = new PasswordHasher(passwordEncoder, 1, 1, 50);
+		when(passwordEncoder.encode(anyString())).thenAnswer(inv -> {
+			release.await();
+			return "encoded";
+		});
+
+		Assertions.assertThrows(ServerBusyException.class, () -> passwordHasher.encode("raw"));
+		assertEquals(passwordHasher.getStats().getTimeouts(), 1);
+	}
+
+	private void waitUntilQueued() throws InterruptedException {
+		for (int i = 0; i < 100 && passwordHasher.getStats().getQueued() == 0; i++) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.fixture.InMemoryRedis;
+import com.example.sixnumber.global.dto.SessionCacheStatsResponse;
+import com.example.sixnumber.global.scurity.SessionCache;
+
+public class SessionCacheTest {
+
+	private InMemoryRedis redis;
+	private AtomicLong clock;
+	private SessionCache sessionCache;
+
+	@BeforeEach
+	public void setup() {
+		redis = new InMemoryRedis();
+		clock = new AtomicLong(1000);
+		sessionCache = newCache(10);
+	}
+
+	@Test
+	void find_hit_after_miss() {
+		redis.set("RT: 7", "refresh");
+		redis.set("TV: 7", "3");
+
+		assertEquals(sessionCache.find(7L).getVersion(), "3");
+		assertEquals(sessionCache.find(7L).getVersion(), "3");
+
+		SessionCacheStatsResponse stats = sessionCache.getStats();
+		assertEquals(stats.getMisses(), 1);
+		assertEquals(stats.getHits(), 1);
+		assertEquals(stats.getSize(), 1);
+	}
+
+	@Test
+	void find_noSession_notCached() {
+		assertNull(sessionCache.find(7L));
+
+		redis.set("RT: 7", "refresh");
+
+		assertNotNull(sessionCache.find(7L));
+		assertNull(sessionCache.find(7L).getVersion());
+		assertEquals(sessionCache.getStats().getMisses(), 2);
+	}
+
+	@Test
+	void find_expired() {
+		redis.set("RT: 7", "refresh");
+		sessionCache.find(7L);
+
+		redis.delete("RT: 7");
+		clock.addAndGet(5000);
+
+		assertNull(sessionCache.find(7L));
+		assertEquals(sessionCache.getStats().getHits(), 0);
+	}
+
+	@Test
+	void evict_other_server() {
+		SessionCache otherServer = newCache(10);
+		redis.set("RT: 7", "refresh");
+		sessionCache.find(7L);
+		otherServer.find(7L);
+
+		redis.delete("RT: 7");
+		sessionCache.evict(7L);
+
+		assertNull(sessionCache.find(7L));
+		assertNull(otherServer.find(7L));
+		assertEquals(otherServer.getStats().getInvalidations(), 1);
+	}
+
+	@Test
+	void evictAll_many_clears_cache() {
+		SessionCache otherServer = newCache(10);
+		redis.set("RT: 7", "refresh");
+		otherServer.find(7L);
+
+		sessionCache.evictAll(LongStream.rangeClosed(1, 1001).boxed().toList());
+
+		assertEquals(otherServer.getStats().getSize(), 0);
+	}
+
+	@Test
+	void put_bounded() {
+		SessionCache small = newCache(2);
+		for (long id : List.of(1L, 2L, 3L)) {
+			redis.set("RT: " + id, "refresh");
+			assertNotNull(small.find(id));
+		}
+
+		assertEquals(small.getStats().getSize(), 2);
+	}
+
+	private SessionCache newCache(int maxSize) {
+		SessionCache cache = new SessionCache(redis.template(), 5000, maxSize, clock::get);
+		redis.subscribe(SessionCache.CHANNEL, cache);
+		return cache;
+	}
+}
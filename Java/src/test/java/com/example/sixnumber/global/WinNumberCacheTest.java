@@ -0,0 +1,77 @@
+package com.example.sixnumber.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.fixture.InMemoryRedis;
+import com.example.sixnumber.global.util.WinNumberCache;
+import com.example.sixnumber.global.util.WinNumberCache.Snapshot;
+
+public class WinNumberCacheTest {
+
+	private InMemoryRedis redis;
+	private WinNumberCache winNumberCache;
+
+	@BeforeEach
+	public void setup() {
+		redis = new InMemoryRedis();
+		winNumberCache = newCache();
+		redis.rightPush(WinNumberCache.KEY, "1075,2023-07-11,1000000,1,1 2 3 4 5 6 7");
+	}
+
+	@Test
+	void get_parsed_once() {
+		Snapshot first = winNumberCache.get();
+		redis.rightPush(WinNumberCache.KEY, "1076,2023-07-18,1000000,1,8 9 10 11 12 13 14");
+
+		assertSame(winNumberCache.get(), first);
+		assertEquals(first.getWinNumbers().size(), 1);
+		assertEquals(first.getWinNumbers().get(0).getBonus(), 7);
+		assertThrows(UnsupportedOperationException.class, () -> first.getWinNumbers().get(0).getNumList().add(1));
+	}
+
+	@Test
+	void invalidate_other_server() {
+		WinNumberCache otherServer = newCache();
+		String etag = otherServer.get().getEtag();
+
+		redis.rightPush(WinNumberCache.KEY, "1076,2023-07-18,1000000,1,8 9 10 11 12 13 14");
+		winNumberCache.invalidate();
+
+		Snapshot reloaded = otherServer.get();
+		assertEquals(reloaded.getWinNumbers().size(), 2);
+		assertNotEquals(reloaded.getEtag(), etag);
+		assertEquals(reloaded.getEtag(), winNumberCache.get().getEtag());
+	}
+
+	@Test
+	void get_invalidatedWhileLoading() {
+		String stale = "1075,2023-07-11,1000000,1,1 2 3 4 5 6 7";
+		String added = "1076,2023-07-18,1000000,1,8 9 10 11 12 13 14";
+		when(redis.template().opsForList().range(WinNumberCache.KEY, 0, -1))
+			.thenAnswer(inv -> {
+				// 읽은 직후 다른 서버가 회차를 추가하고 무효화함
+				redis.rightPush(WinNumberCache.KEY, added);
+				winNumberCache.invalidate();
+				return List.of(stale);
+			})
+			.thenReturn(List.of(stale, added));
+
+		assertEquals(winNumberCache.get().getWinNumbers().size(), 1);
+
+		// 오래된 값은 캐싱되지 않았으므로 다시 읽음
+		assertEquals(winNumberCache.get().getWinNumbers().size(), 2);
+		assertEquals(winNumberCache.get().getWinNumbers().size(), 2);
+	}
+
+	private WinNumberCache newCache() {
+		WinNumberCache cache = new WinNumberCache(redis.template());
+		redis.subscribe(WinNumberCache.CHANNEL, cache);
+		return cache;
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.sixnumber.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.scheduler.JobMonitor;
+import com.example.sixnumber.global.util.AliasTable;
+import com.example.sixnumber.lotto.dto.BacktestRequest;
+import com.example.sixnumber.lotto.dto.BacktestResponse;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.lotto.type.BacktestStrategy;
+import com.example.sixnumber.lotto.type.WeightSource;
+
+public class BacktestServiceTest {
+
+	private DrawRepository drawRepository;
+	private WeightedNumberGenerator weightedNumberGenerator;
+	private BacktestService backtestService;
+
+	@BeforeEach
+	public void setup() {
+		drawRepository = mock(DrawRepository.class);
+		weightedNumberGenerator = mock(WeightedNumberGenerator.class);
+		JobMonitor jobMonitor = mock(JobMonitor.class);
+		doAnswer(inv -> inv.<IntSupplier>getArgument(1).getAsInt()).when(jobMonitor).run(anyString(), any());
+
+		long[] uniform = new long[45];
+		Arrays.fill(uniform, 1);
+		when(weightedNumberGenerator.table(any(WeightSource.class))).thenReturn(new AliasTable(uniform));
+
+		backtestService = new BacktestService(drawRepository, weightedNumberGenerator, jobMonitor, 2);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		backtestService.shutdown();
+	}
+
+	@ParameterizedTest
+	@EnumSource(BacktestStrategy.class)
+	void start(BacktestStrategy strategy) throws InterruptedException {
+		when(drawRepository.findAllNumbers()).thenReturn(List.of("1 2 3 4 5 6 7", "10 20 30 40 41 42 43"));
+
+		BacktestResponse started = backtestService.start(new BacktestRequest(strategy, 10000, 10));
+		BacktestResponse response = await(started.getId());
+
+		assertEquals("DONE", response.getStatus());
+		assertEquals(10000, response.getProcessed());
+		assertEquals(2, response.getDraws());
+		assertEquals(20000, response.getMatchCounts().stream().mapToLong(Long::longValue).sum());
+		assertEquals(20000, response.getRankCounts().stream().mapToLong(Long::longValue).sum());
+		assertEquals(1.0, response.getRankRates().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+	}
+
+	@Test
+	void start_fail_noDraw() throws InterruptedException {
+		when(drawRepository.findAllNumbers()).thenReturn(List.of());
+
+		BacktestResponse response = await(backtestService.start(new BacktestRequest(BacktestStrategy.RANDOM, 10, null)).getId());
+
+		assertEquals("FAILED", response.getStatus());
+		assertEquals("기록된 회차가 없습니다", response.getError());
+	}
+
+	@Test
+	void start_fail_invalidRequest() {
+		Assertions.assertThrows(InvalidInputException.class,
+			() -> backtestService.start(new BacktestRequest(null, 10, null)));
+		Assertions.assertThrows(InvalidInputException.class,
+			() -> backtestService.start(new BacktestRequest(BacktestStrategy.RANDOM, 0, null)));
+		Assertions.assertThrows(InvalidInputException.class,
+			() -> backtestService.start(new BacktestRequest(BacktestStrategy.STATISTICAL, 10, 0)));
+	}
+
+	@Test
+	void get_fail_notFound() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> backtestService.get(99));
+	}
+
+	private BacktestResponse await(long id) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			BacktestResponse response = backtestService.get(id);
+			if (response.getStatus().equals("DONE") || response.getStatus().equals("FAILED")) return response;
+			Thread.sleep(10);
+		}
+		return fail("백테스트가 끝나지 않았습니다");
+	}
+}
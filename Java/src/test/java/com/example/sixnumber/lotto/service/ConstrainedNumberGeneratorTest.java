@@ -0,0 +1,99 @@
+package com.example.sixnumber.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.lotto.dto.ConstrainedNumberRequest;
+
+public class ConstrainedNumberGeneratorTest {
+
+	private final SplittableRandom random = new SplittableRandom(7);
+
+	@Test
+	void total_noConstraint() {
+		ConstrainedNumberGenerator generator = ConstrainedNumberGenerator.of(ConstrainedNumberRequest.builder().value(1).build());
+
+		assertEquals(8145060, generator.total());
+	}
+
+	@Test
+	void sample_includeAndExclude() {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder()
+			.value(1)
+			.include(List.of(7, 13))
+			.exclude(List.of(1, 2, 3, 44))
+			.minSum(100)
+			.maxSum(150)
+			.build();
+		ConstrainedNumberGenerator generator = ConstrainedNumberGenerator.of(request);
+
+		assertEquals(59031, generator.total());
+		for (int i = 0; i < 1000; i++) {
+			int[] numbers = numbers(generator.sample(random));
+			int sum = Arrays.stream(numbers).sum();
+
+			assertTrue(contains(numbers, 7) && contains(numbers, 13));
+			assertFalse(contains(numbers, 1) || contains(numbers, 2) || contains(numbers, 3) || contains(numbers, 44));
+			assertTrue(sum >= 100 && sum <= 150);
+		}
+	}
+
+	@Test
+	void sample_oddAndConsecutive() {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder()
+			.value(1)
+			.minOdd(3)
+			.maxOdd(3)
+			.maxConsecutive(1)
+			.minSum(200)
+			.build();
+		ConstrainedNumberGenerator generator = ConstrainedNumberGenerator.of(request);
+
+		assertEquals(7842, generator.total());
+		for (int i = 0; i < 1000; i++) {
+			int[] numbers = numbers(generator.sample(random));
+
+			assertEquals(6, numbers.length);
+			assertEquals(3, Arrays.stream(numbers).filter(number -> number % 2 == 1).count());
+			for (int j = 1; j < numbers.length; j++) assertTrue(numbers[j] > numbers[j - 1] + 1);
+			assertTrue(Arrays.stream(numbers).sum() >= 200);
+		}
+	}
+
+	@Test
+	void sample_fail_noCombination() {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder().value(1).maxSum(20).build();
+		ConstrainedNumberGenerator generator = ConstrainedNumberGenerator.of(request);
+
+		assertEquals(0, generator.total());
+		assertThrows(IllegalArgumentException.class, () -> generator.sample(random));
+	}
+
+	@Test
+	void of_fail_invalidConstraint() {
+		assertThrows(InvalidInputException.class, () -> ConstrainedNumberGenerator.of(
+			ConstrainedNumberRequest.builder().include(List.of(1)).exclude(List.of(1)).build()));
+		assertThrows(InvalidInputException.class, () -> ConstrainedNumberGenerator.of(
+			ConstrainedNumberRequest.builder().include(List.of(1, 2, 3, 4, 5, 6, 7)).build()));
+		assertThrows(InvalidInputException.class, () -> ConstrainedNumberGenerator.of(
+			ConstrainedNumberRequest.builder().exclude(List.of(46)).build()));
+		assertThrows(InvalidInputException.class, () -> ConstrainedNumberGenerator.of(
+			ConstrainedNumberRequest.builder().minOdd(4).maxOdd(2).build()));
+		assertThrows(InvalidInputException.class, () -> ConstrainedNumberGenerator.of(
+			ConstrainedNumberRequest.builder().maxConsecutive(0).build()));
+	}
+
+	private int[] numbers(String ticket) {
+		return Arrays.stream(ticket.split(" ")).mapToInt(Integer::parseInt).toArray();
+	}
+
+	private boolean contains(int[] numbers, int target) {
+		return Arrays.stream(numbers).anyMatch(number -> number == target);
+	}
+}
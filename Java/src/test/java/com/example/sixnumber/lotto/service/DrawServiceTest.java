@@ -0,0 +1,170 @@
+package com.example.sixnumber.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.sixnumber.fixture.TestDataFactory;
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.WinNumberCache;
+import com.example.sixnumber.lotto.entity.Draw;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.user.dto.WinNumberRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class DrawServiceTest {
+
+	@InjectMocks
+	private DrawService drawService;
+
+	@Mock
+	private DrawRepository drawRepository;
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private WinNumberCache winNumberCache;
+	@Mock
+	private PairStatistics pairStatistics;
+
+	private ListOperations<String, String> listOperations;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		listOperations = mock(ListOperations.class);
+		lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+		lenient().doAnswer(inv -> {
+			inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void importFile_csv() {
+		MockMultipartFile file = new MockMultipartFile("file", "draws.csv", "text/csv", (
+			"round,date,prize,winner,numbers\n"
+				+ "1075,2023-07-08,2000000000,10,1 2 3 4 5 6 7\n"
+				+ "\n"
+				+ "1076,2023-07-15,1500000000,8,8 9 10 11 12 13 14\n").getBytes(StandardCharsets.UTF_8));
+
+		when(drawRepository.findByOrderByRoundDesc(any(Pageable.class))).thenReturn(List.of());
+
+		int count = drawService.importFile(file);
+
+		ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+		assertEquals(2, count);
+		assertEquals(2, rows.getValue().size());
+		assertEquals(1076, rows.getValue().get(1)[0]);
+		assertEquals("8 9 10 11 12 13 14", rows.getValue().get(1)[4]);
+		verify(drawRepository).findByOrderByRoundDesc(any(Pageable.class));
+	}
+
+	@Test
+	void importFile_json() {
+		MockMultipartFile file = new MockMultipartFile("file", "draws.json", "application/json", (
+			"[{\"time\": 1075, \"date\": \"2023-07-08\", \"prize\": 2000000000, \"winner\": 10, \"numbers\": \"1 2 3 4 5 6 7\"},"
+				+ " {\"time\": 1076, \"date\": \"2023-07-15\", \"prize\": 1500000000, \"winner\": 8, \"numbers\": \"8 9 10 11 12 13 14\"}]"
+		).getBytes(StandardCharsets.UTF_8));
+
+		when(drawRepository.findByOrderByRoundDesc(any(Pageable.class))).thenReturn(List.of());
+
+		assertEquals(2, drawService.importFile(file));
+		verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+		verify(pairStatistics).rebuildDraws();
+	}
+
+	@Test
+	void importFile_fail_invalidLine() {
+		MockMultipartFile file = new MockMultipartFile("file", "draws.csv", "text/csv", (
+			"1075,2023-07-08,2000000000,10,1 2 3 4 5 6 7\n"
+				+ "1076,2023-07-15,1500000000,8,8 9 10 11 12 13 13\n").getBytes(StandardCharsets.UTF_8));
+
+		IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+			() -> drawService.importFile(file));
+
+		assertEquals("2번째 회차 정보가 잘못되었습니다", exception.getMessage());
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+		verify(winNumberCache, never()).invalidate();
+		verify(pairStatistics, never()).rebuildDraws();
+	}
+
+	@Test
+	void record() {
+		drawService.record(TestDataFactory.winNumberRequest());
+
+		verify(drawRepository).save(any(Draw.class));
+		verify(drawRepository).findByOrderByRoundDesc(any(Pageable.class));
+		verify(pairStatistics).addDraw("1 2 3 4 5 6 7");
+		verify(pairStatistics, never()).rebuildDraws();
+	}
+
+	@Test
+	void record_existingRound() {
+		when(drawRepository.existsById(1075)).thenReturn(true);
+
+		drawService.record(TestDataFactory.winNumberRequest());
+
+		verify(drawRepository).save(any(Draw.class));
+		verify(pairStatistics).rebuildDraws();
+		verify(pairStatistics, never()).addDraw(anyString());
+	}
+
+	@Test
+	void record_fail_invalidDate() {
+		Assertions.assertThrows(InvalidInputException.class, () -> drawService.record(
+			new WinNumberRequest("2023-13-01", 1075, 10000L, 1, "1 2 3 4 5 6 7")));
+
+		verify(drawRepository, never()).save(any(Draw.class));
+	}
+
+	@Test
+	void refreshRecent() {
+		Draw older = new Draw(1075, LocalDate.of(2023, 7, 8), 2000000000L, 10, "1 2 3 4 5 6 7");
+		Draw latest = new Draw(1076, LocalDate.of(2023, 7, 15), 1500000000L, 8, "8 9 10 11 12 13 14");
+
+		when(drawRepository.findByOrderByRoundDesc(any(Pageable.class))).thenReturn(List.of(latest, older));
+
+		drawService.refreshRecent();
+
+		verify(listOperations).rightPushAll(startsWith(WinNumberCache.KEY + ":"),
+			eq(List.of(older.toRecord(), latest.toRecord())));
+		verify(redisTemplate).rename(startsWith(WinNumberCache.KEY + ":"), eq(WinNumberCache.KEY));
+		verify(winNumberCache).invalidate();
+	}
+
+	@Test
+	void refreshRecent_noDraw() {
+		when(drawRepository.findByOrderByRoundDesc(any(Pageable.class))).thenReturn(List.of());
+
+		drawService.refreshRecent();
+
+		verify(redisTemplate, never()).rename(anyString(), anyString());
+		verify(winNumberCache, never()).invalidate();
+	}
+}
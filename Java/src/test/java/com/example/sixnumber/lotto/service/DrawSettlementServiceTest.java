@@ -0,0 +1,133 @@
+package com.example.sixnumber.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.sixnumber.global.scheduler.JobMonitor;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.entity.DrawSettlement;
+import com.example.sixnumber.lotto.repository.DrawSettlementRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class DrawSettlementServiceTest {
+
+	private static final String RESULT_DELETE = "DELETE FROM ticket_result WHERE draw_round = ? AND generation <> ?";
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private DrawSettlementRepository drawSettlementRepository;
+	@Mock
+	private JobMonitor jobMonitor;
+
+	private DrawSettlementService drawSettlementService;
+	private long[] draw;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() throws Exception {
+		drawSettlementService = new DrawSettlementService(jdbcTemplate, transactionTemplate, drawSettlementRepository,
+			jobMonitor, 1, 1, 100, 10, 4);
+		draw = NumberMask.draw("1 2 3 4 5 6 7");
+
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong(1)).thenReturn(7L, 8L);
+		when(rs.getLong(2)).thenReturn(1L, 2L);
+		when(rs.getInt(3)).thenReturn(0, 0);
+		when(rs.getString(4)).thenReturn("1 2 3 4 5 6", "10 11 12 13 14 15");
+		lenient().doAnswer(inv -> {
+			RowCallbackHandler handler = inv.getArgument(1);
+			handler.processRow(rs);
+			handler.processRow(rs);
+			return null;
+		}).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+		lenient().doAnswer(inv -> {
+			inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		drawSettlementService.shutdown();
+	}
+
+	@Test
+	void settle_swapsGeneration() {
+		DrawSettlement previous = new DrawSettlement(1075, LocalDate.of(2023, 7, 8), 1L, new long[6], 1L,
+			Long.MAX_VALUE - 1);
+		when(drawSettlementRepository.findById(1075)).thenReturn(Optional.of(previous));
+
+		DrawSettlement settlement = drawSettlementService.settle(1075, LocalDate.of(2023, 7, 8), draw[0], draw[1]);
+
+		assertEquals(Long.MAX_VALUE, settlement.getGeneration());
+		assertEquals(2, settlement.getTickets());
+		assertEquals(1, settlement.getFirst());
+
+		// 이전 결과는 새 정산이 저장된 같은 트랜잭션에서만 지움
+		InOrder inOrder = inOrder(jdbcTemplate, drawSettlementRepository);
+		inOrder.verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+		inOrder.verify(drawSettlementRepository).save(settlement);
+		inOrder.verify(jdbcTemplate).update(RESULT_DELETE, 1075, Long.MAX_VALUE);
+		verify(jdbcTemplate, never()).update(eq("DELETE FROM ticket_result WHERE draw_round = ?"), any());
+	}
+
+	@Test
+	void settle_fail_keepsPreviousResults() {
+		when(drawSettlementRepository.findById(1075)).thenReturn(Optional.empty());
+		when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+			.thenThrow(new IllegalStateException("db"));
+
+		Assertions.assertThrows(IllegalStateException.class,
+			() -> drawSettlementService.settle(1075, LocalDate.of(2023, 7, 8), draw[0], draw[1]));
+
+		verify(drawSettlementRepository, never()).save(any(DrawSettlement.class));
+		verify(jdbcTemplate, never()).update(eq(RESULT_DELETE), any(), any());
+	}
+
+	@Test
+	void workers_limitedByPool() {
+		assertEquals(5, DrawSettlementService.workers(16, 10, 4));
+		assertEquals(2, DrawSettlementService.workers(2, 10, 4));
+		assertEquals(1, DrawSettlementService.workers(8, 4, 4));
+	}
+
+	@Test
+	void settle_writesNewGeneration() throws Exception {
+		when(drawSettlementRepository.findById(1075)).thenReturn(Optional.empty());
+		long before = System.currentTimeMillis();
+
+		DrawSettlement settlement = drawSettlementService.settle(1075, LocalDate.of(2023, 7, 8), draw[0], draw[1]);
+
+		assertTrue(settlement.getGeneration() >= before);
+		ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), setter.capture());
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setter.getValue().setValues(ps, 0);
+		verify(ps).setLong(8, settlement.getGeneration());
+	}
+}
@@ -19,11 +19,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.example.sixnumber.fixture.TestUtil;
 import com.example.sixnumber.global.dto.ItemApiResponse;
+import com.example.sixnumber.global.dto.ListApiResponse;
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.util.DecayedFrequency;
 import com.example.sixnumber.global.util.Manager;
 import com.example.sixnumber.lotto.dto.LottoResponse;
+import com.example.sixnumber.lotto.dto.PairResponse;
 import com.example.sixnumber.lotto.dto.YearMonthRequest;
 import com.example.sixnumber.lotto.entity.Lotto;
 import com.example.sixnumber.lotto.repository.LottoRepository;
+import com.example.sixnumber.lotto.type.PairSource;
 
 @ExtendWith(MockitoExtension.class)
 public class LottoServiceTest {
@@ -34,6 +39,12 @@ public class LottoServiceTest {
 	private LottoRepository lottoRepository;
 	@Mock
 	private Manager manager;
+	@Mock
+	private DrawService drawService;
+	@Mock
+	private PairStatistics pairStatistics;
+	@Mock
+	private DecayedFrequency decayedFrequency;
 
 	private Lotto lotto;
 
@@ -70,6 +81,54 @@ public class LottoServiceTest {
 		verify(lottoRepository).findByMain();
 	}
 
+	@Test
+	void decayedTopNumbers() {
+		double[] values = new double[45];
+		values[0] = 1.5;
+		values[44] = 0.25;
+		when(decayedFrequency.values()).thenReturn(values);
+		when(manager.reviseResult(anyList(), anyList())).thenReturn("1 2 3 4 5 45");
+
+		ItemApiResponse<LottoResponse> response = lottoService.decayedTopNumbers();
+
+		verify(manager).reviseResult(anyList(), anyList());
+		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
+		assertTrue(response.getData().getStatistics().startsWith("(1번 : 1.50), (2번 : 0.00)"));
+		assertTrue(response.getData().getStatistics().endsWith("(45번 : 0.25)"));
+		assertEquals("1 2 3 4 5 45", response.getData().getValue());
+	}
+
+	@Test
+	void getPairs() {
+		when(pairStatistics.topPairs(PairSource.DRAW, 2)).thenReturn(
+			List.of(new PairResponse(3, 17, 9), new PairResponse(1, 2, 4)));
+
+		ListApiResponse<PairResponse> response = lottoService.getPairs(PairSource.DRAW, 2);
+
+		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+		assertEquals(2, response.getData().size());
+		assertEquals(17, response.getData().get(0).getSecond());
+	}
+
+	@Test
+	void getPairs_fail_limit() {
+		Assertions.assertThrows(InvalidInputException.class, () -> lottoService.getPairs(PairSource.TICKET, 0));
+		Assertions.assertThrows(InvalidInputException.class,
+			() -> lottoService.getPairs(PairSource.TICKET, PairStatistics.PAIRS + 1));
+
+		verify(pairStatistics, never()).topPairs(any(), anyInt());
+	}
+
+	@Test
+	void getCompanions() {
+		when(pairStatistics.companions(PairSource.TICKET, 7, 1)).thenReturn(List.of(new PairResponse(7, 40, 12)));
+
+		ListApiResponse<PairResponse> response = lottoService.getCompanions(PairSource.TICKET, 7, 1);
+
+		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+		assertEquals(40, response.getData().get(0).getSecond());
+	}
+
 	@Test
 	void getTopNumberForMonth() {
 		YearMonthRequest request = mock(YearMonthRequest.class);
@@ -0,0 +1,196 @@
+package com.example.sixnumber.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.lotto.dto.PairResponse;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.lotto.type.PairSource;
+
+@ExtendWith(MockitoExtension.class)
+public class PairStatisticsTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private DrawRepository drawRepository;
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	private final Map<String, Map<Object, Object>> hashes = new ConcurrentHashMap<>();
+	private PairStatistics pairStatistics;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		lenient().when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(inv -> {
+			inv.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+			return List.of();
+		});
+		lenient().when(hashOperations.increment(anyString(), any(), anyLong())).thenAnswer(inv -> {
+			Map<Object, Object> hash = hashes.computeIfAbsent(inv.getArgument(0), key -> new HashMap<>());
+			long value = Long.parseLong(String.valueOf(hash.getOrDefault(inv.getArgument(1), "0"))) + inv.<Long>getArgument(2);
+			hash.put(inv.getArgument(1), String.valueOf(value));
+			return value;
+		});
+		lenient().when(hashOperations.entries(anyString()))
+			.thenAnswer(inv -> new HashMap<>(hashes.getOrDefault(inv.<String>getArgument(0), Map.of())));
+		lenient().doAnswer(inv -> hashes.put(inv.getArgument(0), new HashMap<>(inv.<Map<Object, Object>>getArgument(1))))
+			.when(hashOperations).putAll(anyString(), anyMap());
+		lenient().doAnswer(inv -> hashes.put(inv.getArgument(1), hashes.remove(inv.<String>getArgument(0))))
+			.when(redisTemplate).rename(anyString(), anyString());
+
+		pairStatistics = new PairStatistics(redisTemplate, drawRepository);
+	}
+
+	@Test
+	void addTickets_sync() {
+		pairStatistics.addTicketsAfterCommit(List.of("1 2 3 4 5 6", "1 2 10 20 30 40"));
+		assertEquals(0, pairStatistics.topPairs(PairSource.TICKET, 1).get(0).getCount());
+
+		pairStatistics.sync();
+
+		Map<Object, Object> hash = hashes.get(PairStatistics.KEY + PairSource.TICKET);
+		assertEquals(29, hash.size());
+		assertEquals("2", hash.get("1:2"));
+		assertEquals("1", hash.get("5:6"));
+
+		List<PairResponse> top = pairStatistics.topPairs(PairSource.TICKET, 2);
+		assertEquals(1, top.get(0).getFirst());
+		assertEquals(2, top.get(0).getSecond());
+		assertEquals(2, top.get(0).getCount());
+		assertEquals(1, top.get(1).getCount());
+	}
+
+	@Test
+	void sync_mergesOtherServers() {
+		hashes.put(PairStatistics.KEY + PairSource.TICKET, new HashMap<>(Map.of("3:17", "5")));
+
+		pairStatistics.addTicketsAfterCommit(List.of("3 17 20 21 22 23"));
+		pairStatistics.sync();
+
+		assertEquals("6", hashes.get(PairStatistics.KEY + PairSource.TICKET).get("3:17"));
+		assertEquals(6, pairStatistics.companions(PairSource.TICKET, 17, 1).get(0).getCount());
+	}
+
+	@Test
+	void flush_nothingPending() {
+		pairStatistics.flush();
+
+		verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+	}
+
+	@Test
+	void flush_fail_keepsPending() {
+		pairStatistics.addTicketsAfterCommit(List.of("1 2 3 4 5 6"));
+		doThrow(new RedisConnectionFailureException("down"))
+			.doAnswer(inv -> {
+				inv.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+				return List.of();
+			})
+			.when(redisTemplate).executePipelined(any(SessionCallback.class));
+
+		pairStatistics.flush();
+		assertNull(hashes.get(PairStatistics.KEY + PairSource.TICKET));
+
+		pairStatistics.flush();
+		assertEquals(15, hashes.get(PairStatistics.KEY + PairSource.TICKET).size());
+	}
+
+	@Test
+	void companions() {
+		pairStatistics.addTicketsAfterCommit(List.of("1 7 8 9 10 11", "7 9 20 30 40 45"));
+		pairStatistics.sync();
+
+		List<PairResponse> companions = pairStatistics.companions(PairSource.TICKET, 9, 44);
+
+		assertEquals(44, companions.size());
+		assertEquals(9, companions.get(0).getFirst());
+		assertEquals(7, companions.get(0).getSecond());
+		assertEquals(2, companions.get(0).getCount());
+		assertTrue(companions.stream().noneMatch(pair -> pair.getSecond() == 9));
+	}
+
+	@Test
+	void companions_fail_invalidNumber() {
+		Assertions.assertThrows(InvalidInputException.class, () -> pairStatistics.companions(PairSource.TICKET, 46, 5));
+	}
+
+	@Test
+	void rebuildDraws() {
+		when(drawRepository.findAllNumbers()).thenReturn(List.of("1 2 3 4 5 6 7", "1 2 10 11 12 13 3"));
+
+		pairStatistics.addDraw("40 41 42 43 44 45 1");
+		pairStatistics.rebuildDraws();
+		pairStatistics.sync();
+
+		Map<Object, Object> hash = hashes.get(PairStatistics.KEY + PairSource.DRAW);
+		assertEquals(29, hash.size());
+		assertEquals("2", hash.get("1:2"));
+		// 보너스 번호와 다시 만들기 전에 쌓여 있던 증가분은 세지 않음
+		assertNull(hash.get("3:10"));
+		assertNull(hash.get("40:41"));
+		assertEquals(2, pairStatistics.topPairs(PairSource.DRAW, 1).get(0).getCount());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rebuildDraws_duringFlush() throws Exception {
+		when(drawRepository.findAllNumbers()).thenReturn(List.of("1 2 3 4 5 6 7"));
+		pairStatistics.addDraw("1 2 3 4 5 6 7");
+
+		// 증가분을 보내는 도중에 회차 파일을 가져와 다시 만드는 경우
+		Thread[] rebuild = new Thread[1];
+		doAnswer(inv -> {
+			rebuild[0] = new Thread(pairStatistics::rebuildDraws);
+			rebuild[0].start();
+			rebuild[0].join(200);
+			inv.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+			return List.of();
+		}).when(redisTemplate).executePipelined(any(SessionCallback.class));
+
+		pairStatistics.flush();
+		rebuild[0].join();
+
+		// 다시 만든 값이 보낸 증가분 뒤에 덮어쓰므로 회차가 한 번만 더해짐
+		assertEquals("1", hashes.get(PairStatistics.KEY + PairSource.DRAW).get("1:2"));
+	}
+
+	@Test
+	void warmUp_rebuildsEmptyDraws() {
+		when(hashOperations.size(PairStatistics.KEY + PairSource.DRAW)).thenReturn(0L);
+		when(drawRepository.findAllNumbers()).thenReturn(List.of("1 2 3 4 5 6 7"));
+
+		pairStatistics.warmUp();
+
+		assertEquals(15, hashes.get(PairStatistics.KEY + PairSource.DRAW).size());
+		assertEquals(1, pairStatistics.companions(PairSource.DRAW, 6, 1).get(0).getCount());
+	}
+
+	@Test
+	void warmUp_keepsExistingDraws() {
+		when(hashOperations.size(PairStatistics.KEY + PairSource.DRAW)).thenReturn(15L);
+
+		pairStatistics.warmUp();
+
+		verify(drawRepository, never()).findAllNumbers();
+	}
+}
@@ -3,6 +3,8 @@ package com.example.sixnumber.lotto.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,14 +22,31 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.example.sixnumber.fixture.TestDataFactory;
 import com.example.sixnumber.fixture.TestUtil;
 import com.example.sixnumber.global.dto.ListApiResponse;
-import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.exception.ServerBusyException;
+import com.example.sixnumber.global.exception.UserNotFoundException;
+import com.example.sixnumber.global.util.CombinationPopularity;
+import com.example.sixnumber.global.util.DecayedFrequency;
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.global.util.WinNumberCache;
 import com.example.sixnumber.lotto.dto.BuyNumberRequest;
+import com.example.sixnumber.lotto.dto.ConstrainedNumberRequest;
+import com.example.sixnumber.lotto.dto.PopularityResponse;
 import com.example.sixnumber.lotto.dto.StatisticalNumberRequest;
+import com.example.sixnumber.lotto.dto.TicketResultResponse;
+import com.example.sixnumber.lotto.dto.WeightedNumberRequest;
 import com.example.sixnumber.lotto.entity.Lotto;
 import com.example.sixnumber.lotto.entity.SixNumber;
+import com.example.sixnumber.lotto.entity.TicketResult;
 import com.example.sixnumber.lotto.repository.LottoRepository;
 import com.example.sixnumber.lotto.repository.SixNumberRepository;
+import com.example.sixnumber.lotto.repository.TicketResultRepository;
+import com.example.sixnumber.lotto.type.WeightSource;
+import com.example.sixnumber.user.dto.WinNumberResponse;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.repository.StatementRepository;
+import com.example.sixnumber.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class SixNumberServiceTest {
@@ -37,7 +57,21 @@ public class SixNumberServiceTest {
 	@Mock
 	private LottoRepository lottoRepository;
 	@Mock
-	private Manager manager;
+	private StatementRepository statementRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private TicketResultRepository ticketResultRepository;
+	@Mock
+	private WinNumberCache winNumberCache;
+	@Mock
+	private WeightedNumberGenerator weightedNumberGenerator;
+	@Mock
+	private CombinationPopularity combinationPopularity;
+	@Mock
+	private PairStatistics pairStatistics;
+	@Mock
+	private DecayedFrequency decayedFrequency;
 
 	private Lotto lotto;
 	private User saveUser;
@@ -52,20 +86,23 @@ public class SixNumberServiceTest {
 	void buyNumber_success() {
 		BuyNumberRequest buyNumberRequest = TestDataFactory.buyNumberRequest();
 
-		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(1000));
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(1);
 
 		List<Integer> countList = TestDataFactory.countList();
 		when(lotto.getCountList()).thenReturn(countList);
 
 		when(lottoRepository.findByMain()).thenReturn(Optional.of(lotto));
 
-		ListApiResponse<String> response = sixNumberService.buyNumber(buyNumberRequest, saveUser);
+		ListApiResponse<String> response = sixNumberService.buyNumber(buyNumberRequest, saveUser.getId());
 
-		verify(manager).findUser(anyLong());
+		verify(userRepository).debitCash(anyLong(), anyInt());
 		verify(lottoRepository).findByMain();
 		verify(sixNumberRepository).save(any(SixNumber.class));
 		List<String> data = response.getData();
-		assertNotNull(saveUser.getStatement());
+		verify(statementRepository).save(any(Statement.class));
+		verify(pairStatistics).addTicketsAfterCommit(data);
+		verify(decayedFrequency).addAfterCommit(data);
 		assertEquals(data.size(), 5);
 		TestUtil.ListApiAssertEquals(response, 200, "요청 성공");
 	}
@@ -75,31 +112,67 @@ public class SixNumberServiceTest {
 		BuyNumberRequest request = mock(BuyNumberRequest.class);
 		when(request.getValue()).thenReturn(50);
 
-		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(9999));
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.buyNumber(request, saveUser));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.buyNumber(request, saveUser.getId()));
 
-		verify(manager).findUser(anyLong());
+		// 번호를 만들기 전에 막히므로 차감도 시도하지 않음
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+		verify(sixNumberRepository, never()).save(any(SixNumber.class));
+		verify(statementRepository, never()).save(any(Statement.class));
+	}
+
+	@Test
+	void buyNumber_fail_spentConcurrently() {
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(1000));
+		when(userRepository.debitCash(saveUser.getId(), 1000)).thenReturn(0);
+
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> sixNumberService.buyNumber(TestDataFactory.buyNumberRequest(), saveUser.getId()));
+
+		verify(sixNumberRepository, never()).save(any(SixNumber.class));
+		verify(statementRepository, never()).save(any(Statement.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, -1, Integer.MAX_VALUE / 100})
+	void buyNumber_fail_invalidValue(int value) {
+		Assertions.assertThrows(InvalidInputException.class,
+			() -> sixNumberService.buyNumber(new BuyNumberRequest(value), saveUser.getId()));
+
+		verify(userRepository, never()).findCashById(anyLong());
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+	}
+
+	@Test
+	void buyNumber_fail_noUser() {
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.empty());
+
+		Assertions.assertThrows(UserNotFoundException.class,
+			() -> sixNumberService.buyNumber(TestDataFactory.buyNumberRequest(), saveUser.getId()));
+
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
 	}
 
 	@Test
 	void statisticalNumber_success() {
 		StatisticalNumberRequest request = TestDataFactory.statisticalNumberRequest();
 
-		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(2500));
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(1);
 
 		List<Integer> countList = TestDataFactory.countList();
 		when(lotto.getCountList()).thenReturn(countList);
 
 		when(lottoRepository.findByMain()).thenReturn(Optional.of(lotto));
 
-		ListApiResponse<String> response = sixNumberService.statisticalNumber(request, saveUser);
+		ListApiResponse<String> response = sixNumberService.statisticalNumber(request, saveUser.getId());
 
-		verify(manager).findUser(anyLong());
+		verify(userRepository).debitCash(anyLong(), anyInt());
 		verify(lottoRepository).findByMain();
 		verify(sixNumberRepository).save(any(SixNumber.class));
 		List<String> data = response.getData();
-		assertNotNull(saveUser.getStatement());
+		verify(statementRepository).save(any(Statement.class));
 		assertEquals(data.size(), 5);
 		TestUtil.ListApiAssertEquals(response, 200, "요청 성공");
 	}
@@ -111,10 +184,198 @@ public class SixNumberServiceTest {
 		when(request.getValue()).thenReturn(value);
 		when(request.getRepetition()).thenReturn(repetition);
 
-		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(4999));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.statisticalNumber(request, saveUser.getId()));
+
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+		verify(sixNumberRepository, never()).save(any(SixNumber.class));
+		verify(statementRepository, never()).save(any(Statement.class));
+	}
+
+	@Test
+	void statisticalNumber_fail_overflow() {
+		StatisticalNumberRequest request = new StatisticalNumberRequest(Integer.MAX_VALUE, 1000);
+
+		Assertions.assertThrows(InvalidInputException.class, () -> sixNumberService.statisticalNumber(request, saveUser.getId()));
+
+		verify(userRepository, never()).findCashById(anyLong());
+	}
+
+	@Test
+	void weightedNumber() {
+		WeightedNumberRequest request = new WeightedNumberRequest(2, WeightSource.HISTORY);
+
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(400));
+		when(weightedNumberGenerator.generate(any(WeightSource.class), anyInt()))
+			.thenReturn(List.of("1 2 3 4 5 6", "7 8 9 10 11 12"));
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(1);
+		when(lottoRepository.findByMain()).thenReturn(Optional.of(lotto));
+		when(lotto.getCountList()).thenReturn(new ArrayList<>(Collections.nCopies(45, 0)));
+
+		ListApiResponse<String> response = sixNumberService.weightedNumber(request, saveUser.getId());
+
+		verify(weightedNumberGenerator).generate(WeightSource.HISTORY, 2);
+		verify(userRepository).debitCash(saveUser.getId(), 400);
+		verify(statementRepository).save(any(Statement.class));
+		verify(sixNumberRepository).save(any(SixNumber.class));
+		assertEquals(2, response.getData().size());
+		TestUtil.ListApiAssertEquals(response, 200, "요청 성공");
+	}
+
+	@Test
+	void weightedNumber_fail_lowCash() {
+		WeightedNumberRequest request = new WeightedNumberRequest(2, WeightSource.MAIN);
+
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(399));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.weightedNumber(request, saveUser.getId()));
+
+		verify(weightedNumberGenerator, never()).generate(any(WeightSource.class), anyInt());
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+		verify(sixNumberRepository, never()).save(any(SixNumber.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 101, Integer.MAX_VALUE})
+	void weightedNumber_fail_invalidValue(int value) {
+		WeightedNumberRequest request = new WeightedNumberRequest(value, WeightSource.MAIN);
+
+		Assertions.assertThrows(InvalidInputException.class, () -> sixNumberService.weightedNumber(request, saveUser.getId()));
+
+		verify(userRepository, never()).findCashById(anyLong());
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+	}
+
+	@Test
+	void weightedNumber_fail_noSource() {
+		WeightedNumberRequest request = new WeightedNumberRequest(2, null);
+
+		Assertions.assertThrows(InvalidInputException.class, () -> sixNumberService.weightedNumber(request, saveUser.getId()));
+
+		verify(weightedNumberGenerator, never()).generate(any(WeightSource.class), anyInt());
+	}
+
+	@Test
+	void constrainedNumber() {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder()
+			.value(3)
+			.include(List.of(7))
+			.maxConsecutive(1)
+			.build();
+
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(600));
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(1);
+		when(lottoRepository.findByMain()).thenReturn(Optional.of(lotto));
+		when(lotto.getCountList()).thenReturn(new ArrayList<>(Collections.nCopies(45, 0)));
+
+		ListApiResponse<String> response = sixNumberService.constrainedNumber(request, saveUser.getId());
+
+		verify(userRepository).debitCash(saveUser.getId(), 600);
+		verify(sixNumberRepository).save(any(SixNumber.class));
+		assertEquals(3, response.getData().size());
+		response.getData().forEach(ticket -> assertTrue(List.of(ticket.split(" ")).contains("7")));
+		TestUtil.ListApiAssertEquals(response, 200, "요청 성공");
+	}
+
+	@Test
+	void constrainedNumber_fail_noCombination() {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder().value(1).maxSum(20).build();
+
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(200));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.constrainedNumber(request, saveUser.getId()));
+
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+	}
+
+	@Test
+	void constrainedNumber_fail_lowCash() {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder().value(3).build();
+
+		when(userRepository.findCashById(saveUser.getId())).thenReturn(Optional.of(599));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.constrainedNumber(request, saveUser.getId()));
+
+		verify(userRepository, never()).debitCash(anyLong(), anyInt());
+		verify(sixNumberRepository, never()).save(any(SixNumber.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 101, Integer.MAX_VALUE})
+	void constrainedNumber_fail_invalidValue(int value) {
+		ConstrainedNumberRequest request = ConstrainedNumberRequest.builder().value(value).build();
+
+		Assertions.assertThrows(InvalidInputException.class, () -> sixNumberService.constrainedNumber(request, saveUser.getId()));
+
+		verify(userRepository, never()).findCashById(anyLong());
+	}
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> sixNumberService.statisticalNumber(request, saveUser));
+	@Test
+	void getPopularity() {
+		when(combinationPopularity.count(anyLong())).thenReturn(3);
+
+		ListApiResponse<PopularityResponse> response = sixNumberService.getPopularity(List.of("1 2 3 4 5 6"));
+
+		verify(combinationPopularity).count(NumberMask.of("1 2 3 4 5 6"));
+		assertEquals(3, response.getData().get(0).getHolders());
+		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+	}
+
+	@Test
+	void getPopularity_fail_notLoaded() {
+		when(combinationPopularity.count(anyLong())).thenThrow(new ServerBusyException());
+
+		Assertions.assertThrows(ServerBusyException.class,
+			() -> sixNumberService.getPopularity(List.of("1 2 3 4 5 6")));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1 2 3 4 5", "1 1 2 3 4 5", "1 2 3 4 5 46"})
+	void getPopularity_fail_invalidNumbers(String numbers) {
+		Assertions.assertThrows(InvalidInputException.class, () -> sixNumberService.getPopularity(List.of(numbers)));
+
+		verify(combinationPopularity, never()).count(anyLong());
+	}
+
+	@Test
+	void getMyTickets() {
+		WinNumberCache.Snapshot snapshot = mock(WinNumberCache.Snapshot.class);
+		TicketResult result = mock(TicketResult.class);
+
+		when(winNumberCache.get()).thenReturn(snapshot);
+		when(snapshot.getWinNumbers()).thenReturn(List.of(new WinNumberResponse("1075,2023-07-11,10000,1,1 2 3 4 5 6 7")));
+		when(ticketResultRepository.findRecent(anyLong(), anyInt())).thenReturn(List.of(result));
+		when(result.getRound()).thenReturn(1075);
+		when(result.getMatchCount()).thenReturn(3);
+		when(result.getRank()).thenReturn(5);
+
+		ListApiResponse<TicketResultResponse> response = sixNumberService.getMyTickets(saveUser.getId(), 5);
+
+		verify(ticketResultRepository).findRecent(saveUser.getId(), 1070);
+		assertEquals(1, response.getData().size());
+		assertEquals(5, response.getData().get(0).getRank());
+		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+	}
+
+	@Test
+	void getMyTickets_noWinNumber() {
+		WinNumberCache.Snapshot snapshot = mock(WinNumberCache.Snapshot.class);
+
+		when(winNumberCache.get()).thenReturn(snapshot);
+		when(snapshot.getWinNumbers()).thenReturn(List.of());
+
+		ListApiResponse<TicketResultResponse> response = sixNumberService.getMyTickets(saveUser.getId(), 5);
+
+		verify(ticketResultRepository, never()).findRecent(anyLong(), anyInt());
+		assertTrue(response.getData().isEmpty());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 53})
+	void getMyTickets_fail_draws(int draws) {
+		Assertions.assertThrows(InvalidInputException.class, () -> sixNumberService.getMyTickets(saveUser.getId(), draws));
 
-		verify(manager).findUser(anyLong());
+		verify(winNumberCache, never()).get();
 	}
 }
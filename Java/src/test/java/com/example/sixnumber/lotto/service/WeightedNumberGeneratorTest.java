@@ -0,0 +1,85 @@
+package com.example.sixnumber.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.sixnumber.global.util.NumberMask;
+import com.example.sixnumber.lotto.entity.Lotto;
+import com.example.sixnumber.lotto.repository.DrawRepository;
+import com.example.sixnumber.lotto.repository.LottoRepository;
+import com.example.sixnumber.lotto.type.WeightSource;
+
+@ExtendWith(MockitoExtension.class)
+public class WeightedNumberGeneratorTest {
+
+	@InjectMocks
+	private WeightedNumberGenerator weightedNumberGenerator;
+
+	@Mock
+	private DrawRepository drawRepository;
+	@Mock
+	private LottoRepository lottoRepository;
+
+	@Test
+	void generate_beforeRefresh() {
+		List<String> tickets = weightedNumberGenerator.generate(WeightSource.HISTORY, 100);
+
+		assertEquals(100, tickets.size());
+		for (String ticket : tickets) {
+			assertEquals(6, Long.bitCount(NumberMask.of(ticket)));
+			assertEquals(ticket, sorted(ticket));
+		}
+	}
+
+	@Test
+	void generate_followsHistory() {
+		// 1~6 번만 많이 나온 기록이면 대부분 1~6 번이 뽑힘
+		when(drawRepository.findAllNumbers()).thenReturn(Collections.nCopies(10000, "1 2 3 4 5 6 7"));
+		when(lottoRepository.findByMain()).thenReturn(Optional.empty());
+
+		weightedNumberGenerator.refresh();
+		List<String> tickets = weightedNumberGenerator.generate(WeightSource.HISTORY, 100);
+
+		long favorite = NumberMask.of("1 2 3 4 5 6");
+		int hits = 0;
+		for (String ticket : tickets) hits += NumberMask.matches(NumberMask.of(ticket), favorite);
+		assertTrue(hits > 500);
+	}
+
+	@Test
+	void generate_followsMainCountList() {
+		List<Integer> countList = new ArrayList<>(Collections.nCopies(45, 0));
+		for (int i = 39; i < 45; i++) countList.set(i, 10000);
+		Lotto lotto = mock(Lotto.class);
+
+		when(drawRepository.findAllNumbers()).thenReturn(List.of());
+		when(lottoRepository.findByMain()).thenReturn(Optional.of(lotto));
+		when(lotto.getCountList()).thenReturn(countList);
+
+		weightedNumberGenerator.refresh();
+		List<String> tickets = weightedNumberGenerator.generate(WeightSource.MAIN, 100);
+
+		long favorite = NumberMask.of("40 41 42 43 44 45");
+		int hits = 0;
+		for (String ticket : tickets) hits += NumberMask.matches(NumberMask.of(ticket), favorite);
+		assertTrue(hits > 500);
+	}
+
+	private String sorted(String ticket) {
+		List<Integer> numbers = new ArrayList<>();
+		for (String value : ticket.split(" ")) numbers.add(Integer.parseInt(value));
+		Collections.sort(numbers);
+		return String.join(" ", numbers.stream().map(String::valueOf).toList());
+	}
+}
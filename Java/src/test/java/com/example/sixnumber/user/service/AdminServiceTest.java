@@ -21,28 +21,49 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sixnumber.fixture.TestDataFactory;
 import com.example.sixnumber.fixture.TestUtil;
 import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
+import com.example.sixnumber.global.dto.JobStatsResponse;
 import com.example.sixnumber.global.dto.ListApiResponse;
 import com.example.sixnumber.global.exception.InvalidInputException;
+import com.example.sixnumber.global.exception.UserNotFoundException;
+import com.example.sixnumber.global.scheduler.JobMonitor;
+import com.example.sixnumber.global.scurity.SessionCache;
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.PasswordHasher;
+import com.example.sixnumber.lotto.dto.BacktestRequest;
+import com.example.sixnumber.lotto.dto.BacktestResponse;
+import com.example.sixnumber.lotto.dto.DrawSettlementResponse;
+import com.example.sixnumber.lotto.entity.DrawSettlement;
 import com.example.sixnumber.lotto.entity.Lotto;
+import com.example.sixnumber.lotto.repository.DrawSettlementRepository;
 import com.example.sixnumber.lotto.repository.LottoRepository;
+import com.example.sixnumber.lotto.service.BacktestService;
+import com.example.sixnumber.lotto.service.DrawService;
+import com.example.sixnumber.lotto.service.DrawSettlementService;
+import com.example.sixnumber.lotto.type.BacktestStrategy;
 import com.example.sixnumber.user.dto.AdminGetChargingResponse;
 import com.example.sixnumber.user.dto.CashRequest;
+import com.example.sixnumber.user.dto.ChargingPageResponse;
 import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.OnlyMsgRequest;
-import com.example.sixnumber.user.dto.UsersReponse;
+import com.example.sixnumber.user.dto.UserPageResponse;
 import com.example.sixnumber.user.dto.WinNumberRequest;
 import com.example.sixnumber.user.dto.WinNumberResponse;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
+import com.example.sixnumber.user.repository.ChargingRepository;
+import com.example.sixnumber.user.repository.ChargingRepository.ChargingPage;
+import com.example.sixnumber.user.repository.StatementRepository;
 import com.example.sixnumber.user.repository.UserRepository;
+import com.example.sixnumber.user.repository.UserRepository.UserSummary;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
 
@@ -55,14 +76,31 @@ public class AdminServiceTest {
 	@Mock
 	private UserRepository userRepository;
 	@Mock
+	private ChargingRepository chargingRepository;
+	@Mock
+	private StatementRepository statementRepository;
+	@Mock
 	private LottoRepository lottoRepository;
 	@Mock
 	private RedisTemplate<String, String> redisTemplate;
 	@Mock
 	private Manager manager;
+	@Mock
+	private JobMonitor jobMonitor;
+	@Mock
+	private SessionCache sessionCache;
+	@Mock
+	private PasswordHasher passwordHasher;
+	@Mock
+	private DrawSettlementService drawSettlementService;
+	@Mock
+	private DrawService drawService;
+	@Mock
+	private BacktestService backtestService;
+	@Mock
+	private DrawSettlementRepository drawSettlementRepository;
 
 	private ValueOperations<String, String> valueOperations;
-	private ListOperations<String, String> listOperations;
 	private User saveUser;
 	private User admin;
 
@@ -81,7 +119,7 @@ public class AdminServiceTest {
 
 		when(manager.findUser(anyLong())).thenReturn(saveUser);
 
-		ApiResponse response = adminService.setAdmin(request, admin, saveUser.getId());
+		ApiResponse response = adminService.setAdmin(request, admin.getId(), saveUser.getId());
 
 		verify(manager).findUser(anyLong());
 		assertEquals(saveUser.getRole(), UserRole.ROLE_ADMIN);
@@ -93,53 +131,74 @@ public class AdminServiceTest {
 		OnlyMsgRequest request = mock(OnlyMsgRequest.class);
 		when(request.getMsg()).thenReturn("false");
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.setAdmin(request, admin, saveUser.getId()));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.setAdmin(request, admin.getId(), saveUser.getId()));
 	}
 	// setAdmin confirmationProcess 에 대한 실패 test code 는 setStatus 에서 검증해서 불필요
 
 	@Test
 	void getUsers() {
-		when(userRepository.findAll()).thenReturn(List.of(saveUser));
+		List<UserSummary> summaries = List.of(summary(9L), summary(8L), summary(7L));
 
-		ListApiResponse<UsersReponse> response = adminService.getUsers();
+		when(userRepository.findSummaries(null, Status.ACTIVE, null, "ni!_ck%", PageRequest.of(0, 3)))
+			.thenReturn(summaries);
 
-		verify(userRepository).findAll();
-		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+		ItemApiResponse<UserPageResponse> response = adminService.getUsers(null, 2, Status.ACTIVE, null, "ni_ck");
+
+		verify(userRepository).findSummaries(null, Status.ACTIVE, null, "ni!_ck%", PageRequest.of(0, 3));
+		assertEquals(response.getData().getUsers().size(), 2);
+		assertEquals(response.getData().getNextCursor(), "8");
+		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
+	}
+
+	@Test
+	void getUsers_nextPage() {
+		when(userRepository.findSummaries(8L, null, null, null, PageRequest.of(0, 3))).thenReturn(List.of(summary(7L)));
+
+		ItemApiResponse<UserPageResponse> response = adminService.getUsers("8", 2, null, null, " ");
+
+		assertEquals(response.getData().getUsers().get(0).getId(), Long.valueOf(7));
+		assertNull(response.getData().getNextCursor());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"abc", "1,2"})
+	void getUsers_fail_incorrectCursor(String cursor) {
+		Assertions.assertThrows(InvalidInputException.class, () -> adminService.getUsers(cursor, 20, null, null, null));
+
+		verify(userRepository, never()).findSummaries(any(), any(), any(), any(), any());
 	}
 
 	@Test
 	void getCharges() {
-		Set<String> keys = TestDataFactory.keys();
 		List<String> values = TestDataFactory.values();
 
-		when(redisTemplate.keys(anyString())).thenReturn(keys);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.multiGet(keys)).thenReturn(values);
+		when(chargingRepository.findPage(null, 20, null, null)).thenReturn(new ChargingPage(values, "cursor"));
 
-		ListApiResponse<AdminGetChargingResponse> response = adminService.getChargs();
+		ItemApiResponse<ChargingPageResponse> response = adminService.getChargs(null, 20, null, null);
 
-		verify(redisTemplate).keys(anyString());
-		verify(valueOperations).multiGet(keys);
-		assertEquals(response.getData().size(), 3);
-		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+		verify(chargingRepository).findPage(null, 20, null, null);
+		assertEquals(response.getData().getCharges().size(), 3);
+		assertEquals(response.getData().getNextCursor(), "cursor");
+		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 101})
+	void getCharges_fail_incorrectSize(int size) {
+		Assertions.assertThrows(InvalidInputException.class, () -> adminService.getChargs(null, size, null, null));
+
+		verify(chargingRepository, never()).findPage(any(), anyInt(), any(), any());
 	}
 
 	@Test
 	void searchCharging_success() {
 		ChargingRequest request = TestDataFactory.chargingRequest();
 
-		Set<String> set = new HashSet<>(List.of("7-Msg-5000"));
-
-		when(redisTemplate.keys(anyString())).thenReturn(set);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-		List<String> values = Collections.singletonList("7-Value1-5000");
-		when(valueOperations.multiGet(set)).thenReturn(values);
+		when(chargingRepository.findByMsgValue("Msg-5000")).thenReturn(Optional.of("7-Msg-5000"));
 
 		ItemApiResponse<AdminGetChargingResponse> response = adminService.searchCharging(request);
 
-		verify(redisTemplate).keys(anyString());
-		verify(valueOperations).multiGet(set);
+		verify(chargingRepository).findByMsgValue("Msg-5000");
 		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
 	}
 
@@ -147,11 +206,11 @@ public class AdminServiceTest {
 	void searchCharging_fail_notFound() {
 		ChargingRequest request = TestDataFactory.chargingRequest();
 
-		when(redisTemplate.keys(anyString())).thenReturn(Collections.emptySet());
+		when(chargingRepository.findByMsgValue(anyString())).thenReturn(Optional.empty());
 
 		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.searchCharging(request));
 
-		verify(redisTemplate).keys(anyString());
+		verify(chargingRepository).findByMsgValue(anyString());
 	}
 
 	@Test
@@ -163,9 +222,9 @@ public class AdminServiceTest {
 		ApiResponse response = adminService.upCash(request);
 
 		verify(manager).findUser(anyLong());
-		verify(redisTemplate).delete(anyString());
-		assertEquals(saveUser.getCash(), 11000);
-		assertNotNull(saveUser.getStatement().get(0));
+		verify(chargingRepository).delete("7-msg-5000");
+		verify(userRepository).creditCash(saveUser.getId(), 5000);
+		verify(statementRepository).save(any(Statement.class));
 		assertEquals(saveUser.getChargingCount(), 0);
 		TestUtil.ApiAsserEquals(response, 200, "충전 완료");
 	}
@@ -174,26 +233,40 @@ public class AdminServiceTest {
 	void downCash_success() {
 		CashRequest request = TestDataFactory.cashRequest();
 
-		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(1);
 
 		ApiResponse response = adminService.downCash(request);
 
-		verify(manager).findUser(anyLong());
-		assertEquals(saveUser.getCash(), 1000);
-		assertNotNull(saveUser.getStatement().get(0));
+		verify(userRepository).debitCash(request.getUserId(), 5000);
+		verify(statementRepository).save(any(Statement.class));
 		TestUtil.ApiAsserEquals(response, 200, "차감 완료");
 	}
 
 	@Test
 	void downCash_fail_manyValue() {
 		CashRequest request = mock(CashRequest.class);
+		when(request.getUserId()).thenReturn(saveUser.getId());
 		when(request.getValue()).thenReturn(10000);
 
-		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(0);
+		when(userRepository.existsById(anyLong())).thenReturn(true);
 
 		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.downCash(request));
 
-		verify(manager).findUser(anyLong());
+		verify(userRepository).debitCash(anyLong(), anyInt());
+		verify(statementRepository, never()).save(any(Statement.class));
+	}
+
+	@Test
+	void downCash_fail_notFoundUser() {
+		CashRequest request = TestDataFactory.cashRequest();
+
+		when(userRepository.debitCash(anyLong(), anyInt())).thenReturn(0);
+		when(userRepository.existsById(anyLong())).thenReturn(false);
+
+		Assertions.assertThrows(UserNotFoundException.class, () -> adminService.downCash(request));
+
+		verify(userRepository).existsById(anyLong());
 	}
 
 	@Test
@@ -228,9 +301,10 @@ public class AdminServiceTest {
 
 		when(manager.findUser(anyLong())).thenReturn(saveUser);
 
-		ApiResponse response = adminService.setStatus(admin, saveUser.getId(), request);
+		ApiResponse response = adminService.setStatus(admin.getId(), saveUser.getId(), request);
 
 		verify(manager).findUser(anyLong());
+		verify(manager).publishTokenVersion(saveUser);
 		assertEquals(saveUser.getStatus(), Status.ACTIVE);
 		TestUtil.ApiAsserEquals(response, 200, "상태 변경 완료");
 	}
@@ -247,10 +321,11 @@ public class AdminServiceTest {
 		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 		when(valueOperations.get(anyString())).thenReturn("RTV");
 
-		ApiResponse response = adminService.setStatus(admin, saveUser.getId(), request);
+		ApiResponse response = adminService.setStatus(admin.getId(), saveUser.getId(), request);
 
 		verify(manager).findUser(anyLong());
 		verify(redisTemplate).delete(anyString());
+		verify(sessionCache).evict(saveUser.getId());
 		assertEquals(saveUser.getStatus(), Status.valueOf(statusStr));
 		TestUtil.ApiAsserEquals(response, 200, "상태 변경 완료");
 	}
@@ -263,7 +338,7 @@ public class AdminServiceTest {
 		when(manager.findUser(anyLong())).thenReturn(saveUser);
 
 		Assertions.assertThrows(
-			InvalidInputException.class, () -> adminService.setStatus(admin, saveUser.getId(), request));
+			InvalidInputException.class, () -> adminService.setStatus(admin.getId(), saveUser.getId(), request));
 
 		verify(manager).findUser(anyLong());
 	}
@@ -275,24 +350,123 @@ public class AdminServiceTest {
 
 		when(manager.findUser(anyLong())).thenReturn(saveUser);
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.setStatus(admin, saveUser.getId(), request));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.setStatus(admin.getId(), saveUser.getId(), request));
 
 		verify(manager).findUser(anyLong());
 	}
 
+	@Test
+	void suspendUntreated_success() {
+		when(manager.suspendUntreatedUsers(4)).thenReturn(3);
+
+		ApiResponse response = adminService.suspendUntreated(4);
+
+		verify(manager).suspendUntreatedUsers(4);
+		TestUtil.ApiAsserEquals(response, 200, "3명 정지 처리 완료");
+	}
+
+	@Test
+	void suspendUntreated_fail_incorrectCount() {
+		Assertions.assertThrows(InvalidInputException.class, () -> adminService.suspendUntreated(0));
+	}
+
+	@Test
+	void getSchedulerStats() {
+		when(jobMonitor.getStats()).thenReturn(List.of());
+
+		ListApiResponse<JobStatsResponse> response = adminService.getSchedulerStats();
+
+		verify(jobMonitor).getStats();
+		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
+	}
+
 	@Test
 	void setWinNumber() {
 		WinNumberRequest winNumberRequest = TestDataFactory.winNumberRequest();
-		listOperations = mock(ListOperations.class);
-
-		when(redisTemplate.opsForList()).thenReturn(listOperations);
-		when(listOperations.size(anyString())).thenReturn(1L);
-		when(listOperations.rightPush(anyString(), anyString())).thenReturn(1L);
 
 		ApiResponse response = adminService.setWinNumber(winNumberRequest);
 
-		verify(listOperations).size(anyString());
-		verify(listOperations).rightPush(anyString(), anyString());
+		verify(drawSettlementService).settleAfterCommit(1075, "2023-07-11", "1 2 3 4 5 6 7");
+		verify(drawService).record(winNumberRequest);
 		TestUtil.ApiAsserEquals(response, 200, "생성 완료");
 	}
+
+	@Test
+	void setWinNumber_fail_invalidNumbers() {
+		WinNumberRequest winNumberRequest = TestDataFactory.winNumberRequest();
+
+		doThrow(new InvalidInputException()).when(drawSettlementService)
+			.settleAfterCommit(anyInt(), anyString(), anyString());
+
+		Assertions.assertThrows(InvalidInputException.class, () -> adminService.setWinNumber(winNumberRequest));
+
+		verify(drawService, never()).record(any(WinNumberRequest.class));
+	}
+
+	@Test
+	void importDraws() {
+		MultipartFile file = mock(MultipartFile.class);
+
+		when(file.isEmpty()).thenReturn(false);
+		when(drawService.importFile(any(MultipartFile.class))).thenReturn(1100);
+
+		ItemApiResponse<Integer> response = adminService.importDraws(file);
+
+		verify(drawService).importFile(file);
+		assertEquals(1100, response.getData());
+		TestUtil.ItemApiAssertEquals(response, 200, "저장 완료");
+	}
+
+	@Test
+	void importDraws_fail_emptyFile() {
+		MultipartFile file = mock(MultipartFile.class);
+
+		when(file.isEmpty()).thenReturn(true);
+
+		Assertions.assertThrows(InvalidInputException.class, () -> adminService.importDraws(file));
+
+		verify(drawService, never()).importFile(any(MultipartFile.class));
+	}
+
+	@Test
+	void startBacktest() {
+		BacktestRequest request = new BacktestRequest(BacktestStrategy.RANDOM, 1000, null);
+		BacktestResponse backtest = mock(BacktestResponse.class);
+
+		when(backtestService.start(any(BacktestRequest.class))).thenReturn(backtest);
+
+		ItemApiResponse<BacktestResponse> response = adminService.startBacktest(request);
+
+		verify(backtestService).start(request);
+		assertEquals(backtest, response.getData());
+		TestUtil.ItemApiAssertEquals(response, 200, "백테스트 등록 완료");
+	}
+
+	@Test
+	void getSettlement() {
+		DrawSettlement settlement = new DrawSettlement(1075, LocalDate.of(2023, 7, 11), 10L,
+			new long[] {0, 1, 0, 0, 2, 3}, 5L, 1L);
+
+		when(drawSettlementRepository.findById(anyInt())).thenReturn(Optional.of(settlement));
+
+		ItemApiResponse<DrawSettlementResponse> response = adminService.getSettlement(1075);
+
+		verify(drawSettlementRepository).findById(1075);
+		assertEquals(10L, response.getData().getTickets());
+		assertEquals(3L, response.getData().getFifth());
+		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
+	}
+
+	@Test
+	void getSettlement_fail_notFound() {
+		when(drawSettlementRepository.findById(anyInt())).thenReturn(Optional.empty());
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> adminService.getSettlement(1075));
+	}
+
+	private UserSummary summary(Long id) {
+		UserSummary summary = mock(UserSummary.class);
+		lenient().when(summary.getId()).thenReturn(id);
+		return summary;
+	}
 }
@@ -4,12 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
@@ -18,13 +18,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.example.sixnumber.fixture.TestDataFactory;
 import com.example.sixnumber.fixture.TestUtil;
@@ -32,9 +33,16 @@ import com.example.sixnumber.global.dto.ApiResponse;
 import com.example.sixnumber.global.dto.ItemApiResponse;
 import com.example.sixnumber.global.dto.ListApiResponse;
 import com.example.sixnumber.global.exception.BreakTheRulesException;
+import com.example.sixnumber.global.exception.InvalidInputException;
 import com.example.sixnumber.global.exception.UserNotFoundException;
+import com.example.sixnumber.global.scurity.SessionCache;
 import com.example.sixnumber.global.util.JwtProvider;
 import com.example.sixnumber.global.util.Manager;
+import com.example.sixnumber.global.util.PasswordHasher;
+import com.example.sixnumber.global.util.SignupFilter;
+import com.example.sixnumber.global.util.WinNumberCache;
+import com.example.sixnumber.global.util.WinNumberCache.Snapshot;
+import com.example.sixnumber.user.dto.AvailabilityResponse;
 import com.example.sixnumber.user.dto.CashNicknameResponse;
 import com.example.sixnumber.user.dto.ChargingRequest;
 import com.example.sixnumber.user.dto.ChargingResponse;
@@ -42,11 +50,15 @@ import com.example.sixnumber.user.dto.MyInformationResponse;
 import com.example.sixnumber.user.dto.SigninRequest;
 import com.example.sixnumber.user.dto.SignupRequest;
 import com.example.sixnumber.user.dto.OnlyMsgRequest;
-import com.example.sixnumber.user.dto.StatementResponse;
+import com.example.sixnumber.user.dto.StatementPageResponse;
 import com.example.sixnumber.user.dto.WinNumberResponse;
+import com.example.sixnumber.user.entity.Statement;
 import com.example.sixnumber.user.entity.User;
 import com.example.sixnumber.user.exception.OverlapException;
 import com.example.sixnumber.user.exception.StatusNotActiveException;
+import com.example.sixnumber.user.repository.ChargingRepository;
+import com.example.sixnumber.user.repository.ChargingRepository.SubmitResult;
+import com.example.sixnumber.user.repository.StatementRepository;
 import com.example.sixnumber.user.repository.UserRepository;
 import com.example.sixnumber.user.type.Status;
 import com.example.sixnumber.user.type.UserRole;
@@ -59,17 +71,26 @@ public class UserServiceTest {
 	@Mock
 	private UserRepository userRepository;
 	@Mock
+	private ChargingRepository chargingRepository;
+	@Mock
+	private StatementRepository statementRepository;
+	@Mock
 	private JwtProvider jwtProvider;
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
 	@Mock
 	private RedisTemplate<String, String> redisTemplate;
 	@Mock
 	private Manager manager;
+	@Mock
+	private SessionCache sessionCache;
+	@Mock
+	private SignupFilter signupFilter;
+	@Mock
+	private WinNumberCache winNumberCache;
 
 	private User saveUser;
 	private ValueOperations<String, String> valueOperations;
-	private ListOperations<String, String>	listOperations;
 
 	@BeforeEach
 	public void setup() {
@@ -82,35 +103,51 @@ public class UserServiceTest {
 	void signup_success() {
 		SignupRequest signupRequest = TestDataFactory.signupRequest();
 
-		when(userRepository.existsUserByEmail(anyString())).thenReturn(false);
-		when(userRepository.existsUserByNickname(anyString())).thenReturn(false);
+		when(signupFilter.mightContainEmail(anyString())).thenReturn(false);
+		when(signupFilter.mightContainNickname(anyString())).thenReturn(false);
 
 		String encodedPassword = "ePassword";
-		when(passwordEncoder.encode(signupRequest.getPassword())).thenReturn(encodedPassword);
+		when(passwordHasher.encode(signupRequest.getPassword())).thenReturn(encodedPassword);
 
 		ApiResponse response = userService.signUp(signupRequest);
 
-		verify(userRepository).existsUserByEmail(anyString());
-		verify(userRepository).existsUserByNickname(anyString());
+		verify(userRepository, never()).findByEmailOrNickname(anyString(), anyString());
 		verify(userRepository).save(any(User.class));
+		verify(signupFilter).add(signupRequest.getEmail(), signupRequest.getNickname());
 		assertEquals(201, response.getCode());
 		assertEquals("회원가입 완료", response.getMsg());
 	}
 
+	@Test
+	void signup_success_falsePositive() {
+		SignupRequest signupRequest = TestDataFactory.signupRequest();
+
+		when(signupFilter.mightContainEmail(anyString())).thenReturn(true);
+		when(userRepository.findByEmailOrNickname(anyString(), anyString())).thenReturn(List.of());
+		when(passwordHasher.encode(signupRequest.getPassword())).thenReturn("ePassword");
+
+		ApiResponse response = userService.signUp(signupRequest);
+
+		verify(userRepository).findByEmailOrNickname(anyString(), anyString());
+		verify(userRepository).save(any(User.class));
+		assertEquals(201, response.getCode());
+	}
+
 	@Test
 	void signup_success_setActive() {
 		SignupRequest request = TestDataFactory.signupRequest();
 
 		saveUser.setStatus("DORMANT");
 
-		when(userRepository.findByStatusAndEmail(eq(Status.DORMANT), anyString())).thenReturn(Optional.of(saveUser));
+		when(signupFilter.mightContainEmail(anyString())).thenReturn(true);
+		when(userRepository.findByEmailOrNickname(anyString(), anyString())).thenReturn(List.of(saveUser));
 
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
 
 		ApiResponse response = userService.signUp(request);
 
-		verify(userRepository).findByStatusAndEmail(eq(Status.DORMANT), anyString());
-		verify(passwordEncoder).matches(anyString(), anyString());
+		verify(userRepository).findByEmailOrNickname(anyString(), anyString());
+		verify(passwordHasher).matches(anyString(), anyString());
 		verify(userRepository).save(any(User.class));
 		assertEquals(saveUser.getStatus(), Status.ACTIVE);
 		assertNull(saveUser.getWithdrawExpiration());
@@ -122,12 +159,14 @@ public class UserServiceTest {
 	void signup_EmailOverlapException() {
 		SignupRequest signupRequest = TestDataFactory.signupRequest();
 
-		when(userRepository.existsUserByEmail(anyString())).thenReturn(true);
+		when(signupFilter.mightContainEmail(anyString())).thenReturn(true);
+		when(userRepository.findByEmailOrNickname(anyString(), anyString())).thenReturn(List.of(saveUser));
 
 		Exception exception = assertThrows(OverlapException.class,
 			() -> userService.signUp(signupRequest));
 
-		verify(userRepository).existsUserByEmail(anyString());
+		verify(userRepository).findByEmailOrNickname(anyString(), anyString());
+		verify(userRepository, never()).save(any(User.class));
 		assertEquals(exception.getMessage(), "중복된 이메일입니다");
 	}
 
@@ -135,15 +174,34 @@ public class UserServiceTest {
 	void signup_NicknameOverlapException() {
 		SignupRequest signupRequest = TestDataFactory.signupRequest();
 
-		when(userRepository.existsUserByNickname(anyString())).thenReturn(true);
+		User sameNickname = mock(User.class);
+		when(sameNickname.getEmail()).thenReturn("other@email.com");
+
+		when(signupFilter.mightContainEmail(anyString())).thenReturn(false);
+		when(signupFilter.mightContainNickname(anyString())).thenReturn(true);
+		when(userRepository.findByEmailOrNickname(anyString(), anyString())).thenReturn(List.of(sameNickname));
 
 		Exception exception = assertThrows(OverlapException.class,
 			() -> userService.signUp(signupRequest));
 
-		verify(userRepository).existsUserByNickname(anyString());
+		verify(userRepository).findByEmailOrNickname(anyString(), anyString());
 		assertEquals(exception.getMessage(), "중복된 닉네임입니다");
 	}
 
+	@Test
+	void checkAvailability() {
+		when(signupFilter.mightContainEmail("new@email.com")).thenReturn(false);
+		when(signupFilter.mightContainNickname("nick")).thenReturn(true);
+		when(userRepository.existsUserByNickname("nick")).thenReturn(true);
+
+		ItemApiResponse<AvailabilityResponse> response = userService.checkAvailability("new@email.com", "nick");
+
+		verify(userRepository, never()).existsUserByEmail(anyString());
+		assertTrue(response.getData().getEmail());
+		assertFalse(response.getData().getNickname());
+		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
+	}
+
 	@Test
 	void signin_success() {
 		SigninRequest signinRequest = TestDataFactory.signinRequest();
@@ -152,19 +210,19 @@ public class UserServiceTest {
 
 		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
 
 		when(jwtProvider.refreshToken(saveUser.getEmail(), saveUser.getId())).thenReturn("sampleRT");
-		when(jwtProvider.accessToken(saveUser.getEmail(), saveUser.getId())).thenReturn("sampleAT");
+		when(jwtProvider.accessToken(saveUser)).thenReturn("sampleAT");
 
 		String accessToken = userService.signIn(signinRequest);
 
 		verify(manager).findUser(anyString());
 		verify(valueOperations).get(anyString());
 		verify(valueOperations).set(anyString(), anyString());
-		verify(passwordEncoder).matches(anyString(), anyString());
+		verify(passwordHasher).matches(anyString(), anyString());
 		verify(jwtProvider).refreshToken(saveUser.getEmail(), saveUser.getId());
-		verify(jwtProvider).accessToken(saveUser.getEmail(), saveUser.getId());
+		verify(jwtProvider).accessToken(saveUser);
 		assertEquals(accessToken, "sampleAT");
 		assertEquals(saveUser.getStatus(), Status.ACTIVE);
 	}
@@ -226,23 +284,24 @@ public class UserServiceTest {
 		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 		when(valueOperations.get(anyString())).thenReturn(null);
 
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+		when(passwordHasher.matches(anyString(), anyString())).thenReturn(false);
 
 		Assertions.assertThrows(IllegalArgumentException.class,
 			() -> userService.signIn(signinRequest));
 
 		verify(manager).findUser(anyString());
 		verify(valueOperations).get(anyString());
-		verify(passwordEncoder).matches(anyString(), anyString());
+		verify(passwordHasher).matches(anyString(), anyString());
 	}
 
 	@Test
 	void logout() {
-		ApiResponse response = userService.logout(saveUser);
+		ApiResponse response = userService.logout(saveUser.getId());
 
 		assertEquals(response.getCode(), 200);
 		assertEquals(response.getMsg(), "로그아웃 성공");
 		verify(redisTemplate).delete(anyString());
+		verify(sessionCache).evict(saveUser.getId());
 	}
 
 	@Test
@@ -306,14 +365,16 @@ public class UserServiceTest {
 		when(request.getMsg()).thenReturn("false");
 
 		when(manager.findUser(anyString())).thenReturn(saveUser);
+		when(userRepository.debitCash(saveUser.getId(), 5000)).thenReturn(1);
 
 		ApiResponse response = userService.setPaid(request, saveUser.getEmail());
 
 		verify(manager).findUser(anyString());
-		assertEquals(saveUser.getCash(), 1000);
+		verify(userRepository).debitCash(saveUser.getId(), 5000);
+		verify(manager).publishTokenVersion(saveUser);
 		assertEquals(saveUser.getRole(), UserRole.ROLE_PAID);
 		assertNotNull(saveUser.getPaymentDate());
-		assertNotNull(saveUser.getStatement());
+		verify(statementRepository).save(any(Statement.class));
 		TestUtil.ApiAsserEquals(response, 200, "권한 변경 성공");
 	}
 
@@ -325,9 +386,9 @@ public class UserServiceTest {
 
 		User user = mock(User.class);
 		when(user.getEmail()).thenReturn("test@email.com");
-		when(user.getCash()).thenReturn(cash);
 		// 분명하게 필요한 정보인데 스터빙 오류가 계속 떠서 lenient() 적용함
 		lenient().when(user.getRole()).thenReturn(role);
+		lenient().when(userRepository.debitCash(any(), anyInt())).thenReturn(cash >= 5000 ? 1 : 0);
 
 		when(manager.findUser(anyString())).thenReturn(user);
 
@@ -339,7 +400,11 @@ public class UserServiceTest {
 
 	@Test
 	void getCashNickname() {
-		ItemApiResponse<CashNicknameResponse> response = userService.getCashNickname(saveUser);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+
+		ItemApiResponse<CashNicknameResponse> response = userService.getCashNickname(saveUser.getId());
+
+		verify(manager).findUser(anyLong());
 
 		TestUtil.ItemApiAssertEquals(response, 200, "조회 성공");
 	}
@@ -348,16 +413,13 @@ public class UserServiceTest {
 	void charging_success() {
 		ChargingRequest request = TestDataFactory.chargingRequest();
 
-		Set<String> set = new HashSet<>(List.of("STMT: 7-1"));
-		when(redisTemplate.keys("*STMT: 7-*")).thenReturn(set);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(chargingRepository.submit(saveUser.getId(), "Msg-5000", 3)).thenReturn(SubmitResult.SUBMITTED);
 
-		ApiResponse response = userService.charging(request, saveUser);
+		ApiResponse response = userService.charging(request, saveUser.getId());
 
-		verify(redisTemplate, times(2)).keys(anyString());
-		verify(valueOperations).set(anyString(), anyString(), anyLong(), any());
-		verify(userRepository).save(saveUser);
-		assertEquals(saveUser.getChargingCount(), 1);
+		verify(chargingRepository).submit(saveUser.getId(), "Msg-5000", 3);
+		verify(userRepository).incrementChargingCount(saveUser.getId());
 		TestUtil.ApiAsserEquals(response, 200, "요청 성공");
 	}
 
@@ -365,24 +427,26 @@ public class UserServiceTest {
 	void charging_fail_manyCharges() {
 		ChargingRequest request = TestDataFactory.chargingRequest();
 
-		Set<String> keys = TestDataFactory.keys();
-		when(redisTemplate.keys(anyString())).thenReturn(keys);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(chargingRepository.submit(anyLong(), anyString(), anyInt())).thenReturn(SubmitResult.TOO_MANY);
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.charging(request, saveUser));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.charging(request, saveUser.getId()));
 
-		verify(redisTemplate).keys(anyString());
+		verify(chargingRepository).submit(anyLong(), anyString(), anyInt());
+		verify(userRepository, never()).incrementChargingCount(anyLong());
 	}
 
 	@Test
 	void charging_fail_KeyOverlapException() {
 		ChargingRequest request = TestDataFactory.chargingRequest();
 
-		Set<String> set = new HashSet<>(List.of("Msg-5000"));
-		when(redisTemplate.keys(anyString())).thenReturn(set);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(chargingRepository.submit(anyLong(), anyString(), anyInt())).thenReturn(SubmitResult.DUPLICATED);
 
-		Assertions.assertThrows(OverlapException.class, () -> userService.charging(request, saveUser));
+		Assertions.assertThrows(OverlapException.class, () -> userService.charging(request, saveUser.getId()));
 
-		verify(redisTemplate, times(2)).keys(anyString());
+		verify(chargingRepository).submit(anyLong(), anyString(), anyInt());
+		verify(userRepository, never()).incrementChargingCount(anyLong());
 	}
 
 	@Test
@@ -390,70 +454,97 @@ public class UserServiceTest {
 		ChargingRequest request = TestDataFactory.chargingRequest();
 
 		saveUser.setChargingCount(4);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
 
-		Assertions.assertThrows(BreakTheRulesException.class, () -> userService.charging(request, saveUser));
+		Assertions.assertThrows(BreakTheRulesException.class, () -> userService.charging(request, saveUser.getId()));
+
+		verify(chargingRepository, never()).submit(anyLong(), anyString(), anyInt());
 	}
 
 	// AdminServiceTest getCharges 와 성공 code가 동일함 삭제해도되나 ?
 	@Test
 	void getCharges_success() {
-		Set<String> keys = TestDataFactory.keys();
 		List<String> values = TestDataFactory.values();
 
-		when(redisTemplate.keys(anyString())).thenReturn(keys);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(valueOperations.multiGet(keys)).thenReturn(values);
+		when(chargingRepository.findByUserId(anyLong())).thenReturn(values);
 
 		ListApiResponse<ChargingResponse> response = userService.getCharges(saveUser.getId());
 
-		verify(redisTemplate).keys(anyString());
-		verify(valueOperations).multiGet(keys);
+		verify(chargingRepository).findByUserId(anyLong());
 		assertEquals(response.getData().size(), 3);
 		TestUtil.ListApiAssertEquals(response, 200, "신청 리스트 조회 성공");
 	}
 
 	@Test
 	void getCharges_fail_isNull() {
-		when(redisTemplate.keys(anyString())).thenReturn(Collections.emptySet());
+		when(chargingRepository.findByUserId(anyLong())).thenReturn(Collections.emptyList());
 
 		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.getCharges(0L));
 
-		verify(redisTemplate).keys(anyString());
+		verify(chargingRepository).findByUserId(anyLong());
 	}
 
 	@Test
 	void getStatement_success() {
-		saveUser.setStatement(LocalDate.now() + ",5000" );
+		List<Statement> statements = List.of(TestDataFactory.statement(), TestDataFactory.statement(),
+			TestDataFactory.statement());
 
-		when(manager.findUser(anyString())).thenReturn(saveUser);
+		when(statementRepository.findFirstPage(anyLong(), any(Pageable.class))).thenReturn(statements);
 
-		ListApiResponse<StatementResponse> response = userService.getStatement(saveUser.getEmail());
+		ItemApiResponse<StatementPageResponse> response = userService.getStatement(saveUser.getId(), null, 2);
 
-		verify(manager).findUser(anyString());
-		assertEquals(response.getData().size(), 1);
-		TestUtil.ListApiAssertEquals(response, 200, "거래내역 조회 완료");
+		verify(statementRepository).findFirstPage(anyLong(), any(Pageable.class));
+		assertEquals(response.getData().getStatements().size(), 2);
+		assertNotNull(response.getData().getNextCursor());
+		TestUtil.ItemApiAssertEquals(response, 200, "거래내역 조회 완료");
 	}
 
 	@Test
-	void getStatement_fail_lowSize() {
-		when(manager.findUser(anyString())).thenReturn(saveUser);
+	void getStatement_success_nextPage() {
+		String cursor = Base64.getUrlEncoder().withoutPadding()
+			.encodeToString("2023-07-11T10:00,5".getBytes(StandardCharsets.UTF_8));
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.getStatement(saveUser.getEmail()));
+		when(statementRepository.findPageAfter(anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+			.thenReturn(List.of(TestDataFactory.statement()));
 
-		verify(manager).findUser(anyString());
+		ItemApiResponse<StatementPageResponse> response = userService.getStatement(saveUser.getId(), cursor, 2);
+
+		verify(statementRepository).findPageAfter(saveUser.getId(), LocalDateTime.parse("2023-07-11T10:00"), 5L,
+			PageRequest.of(0, 3));
+		assertEquals(response.getData().getStatements().size(), 1);
+		assertNull(response.getData().getNextCursor());
+	}
+
+	@Test
+	void getStatement_fail_isEmpty() {
+		when(statementRepository.findFirstPage(anyLong(), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.getStatement(saveUser.getId(), null, 20));
+
+		verify(statementRepository).findFirstPage(anyLong(), any(Pageable.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"invalid", "MjAyMy0wNy0xMQ"})
+	void getStatement_fail_invalidCursor(String cursor) {
+		Assertions.assertThrows(InvalidInputException.class, () -> userService.getStatement(saveUser.getId(), cursor, 20));
+
+		verify(statementRepository, never()).findPageAfter(anyLong(), any(), anyLong(), any());
 	}
 
 	@Test
 	void update_success() {
 		SignupRequest request = new SignupRequest("testE", "testP", "testN");
 
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
-		when(passwordEncoder.encode(anyString())).thenReturn("passwordE");
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+
+		when(passwordHasher.matches(anyString(), anyString())).thenReturn(false);
+		when(passwordHasher.encode(anyString())).thenReturn("passwordE");
 
-		ApiResponse response = userService.update(request, saveUser);
+		ApiResponse response = userService.update(request, saveUser.getId());
 
-		verify(passwordEncoder).matches(anyString(), anyString());
-		verify(passwordEncoder).encode(anyString());
+		verify(passwordHasher).matches(anyString(), anyString());
+		verify(passwordHasher).encode(anyString());
 		TestUtil.ApiAsserEquals(response, 200, "수정 완료");
 	}
 
@@ -464,7 +555,9 @@ public class UserServiceTest {
 		when(request.getPassword()).thenReturn("ePassword");
 		when(request.getNickname()).thenReturn("nickname");
 
-		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.update(request, saveUser));
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> userService.update(request, saveUser.getId()));
 	}
 
 	@Test
@@ -479,29 +572,30 @@ public class UserServiceTest {
 
 	@Test
 	void getWinNumber_success() {
-		listOperations = mock(ListOperations.class);
-		List<String> list = List.of("1075,2023-07-11,1000000,1,1 2 3 4 5 6 7");
+		Snapshot snapshot = mock(Snapshot.class);
+		List<WinNumberResponse> list = List.of(new WinNumberResponse("1075,2023-07-11,1000000,1,1 2 3 4 5 6 7"));
 
-		when(redisTemplate.opsForList()).thenReturn(listOperations);
-		when(listOperations.range(anyString(), anyLong(), anyLong())).thenReturn(list);
+		when(winNumberCache.get()).thenReturn(snapshot);
+		when(snapshot.getWinNumbers()).thenReturn(list);
 
 		ListApiResponse<WinNumberResponse> response = userService.getWinNumber();
 
-		verify(listOperations).range(anyString(), anyLong(), anyLong());
+		verify(winNumberCache).get();
+		verify(redisTemplate, never()).opsForList();
+		assertEquals(response.getData(), list);
 		TestUtil.ListApiAssertEquals(response, 200, "조회 성공");
 	}
 
 	@Test
 	void getWinNumber_fail_isNull() {
-		listOperations = mock(ListOperations.class);
-		List<String> list = new ArrayList<>();
+		Snapshot snapshot = mock(Snapshot.class);
 
-		when(redisTemplate.opsForList()).thenReturn(listOperations);
-		when(listOperations.range(anyString(), anyLong(), anyLong())).thenReturn(list);
+		when(winNumberCache.get()).thenReturn(snapshot);
+		when(snapshot.getWinNumbers()).thenReturn(List.of());
 
 		Assertions.assertThrows(IllegalArgumentException.class, ()->userService.getWinNumber());
 
-		verify(listOperations).range(anyString(), anyLong(), anyLong());
+		verify(winNumberCache).get();
 	}
 
 	@Test
@@ -509,11 +603,12 @@ public class UserServiceTest {
 		OnlyMsgRequest request = mock(OnlyMsgRequest.class);
 		when(request.getMsg()).thenReturn("ePassword");
 
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
 
-		ApiResponse response = userService.checkPW(request, saveUser.getPassword());
+		ApiResponse response = userService.checkPW(request, saveUser.getId());
 
-		verify(passwordEncoder).matches(anyString(), anyString());
+		verify(passwordHasher).matches(anyString(), anyString());
 		TestUtil.ApiAsserEquals(response, 200, "본인확인 성공");
 	}
 
@@ -522,10 +617,11 @@ public class UserServiceTest {
 		OnlyMsgRequest request = mock(OnlyMsgRequest.class);
 		when(request.getMsg()).thenReturn("false");
 
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+		when(manager.findUser(anyLong())).thenReturn(saveUser);
+		when(passwordHasher.matches(anyString(), anyString())).thenReturn(false);
 
-		Assertions.assertThrows(IllegalArgumentException.class, ()->userService.checkPW(request, saveUser.getPassword()));
+		Assertions.assertThrows(IllegalArgumentException.class, ()->userService.checkPW(request, saveUser.getId()));
 
-		verify(passwordEncoder).matches(anyString(), anyString());
+		verify(passwordHasher).matches(anyString(), anyString());
 	}
 }